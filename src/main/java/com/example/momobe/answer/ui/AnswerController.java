@@ -1,10 +1,15 @@
 package com.example.momobe.answer.ui;
 
+import com.example.momobe.answer.domain.Answer;
 import com.example.momobe.answer.domain.AnswerRepository;
 import com.example.momobe.answer.dto.AnswerDto;
 import com.example.momobe.answer.mapper.AnswerMapper;
 import com.example.momobe.common.resolver.Token;
 import com.example.momobe.common.resolver.UserInfo;
+import com.example.momobe.meeting.application.MeetingEventPublishService;
+import com.example.momobe.meeting.domain.MeetingVersionStore;
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
+import com.example.momobe.question.dto.out.ResponseQnaDto;
 import com.example.momobe.question.dto.out.ResponseQuestionDto;
 import com.example.momobe.question.infrastructure.QuestionQueryRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,14 +25,19 @@ public class AnswerController {
     private final AnswerMapper answerMapper;
     private final AnswerRepository answerRepository;
     private final QuestionQueryRepository questionQueryRepository;
+    private final MeetingEventPublishService meetingEventPublishService;
+    private final MeetingVersionStore meetingVersionStore;
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/{meetingId}/questions/{questionId}/answers")
-    public List<ResponseQuestionDto> postAnswer(@PathVariable(name = "meetingId") Long meetingId,
-                                                @PathVariable(name = "questionId") Long questionId,
-                                                @Token UserInfo userInfo,
-                                                @Valid @RequestBody AnswerDto answerDto) {
-        answerRepository.save(answerMapper.of(meetingId, questionId, answerDto, userInfo));
-        return questionQueryRepository.getQuestions(meetingId);
+    public ResponseQnaDto<ResponseQuestionDto.Answer> postAnswer(@PathVariable(name = "meetingId") Long meetingId,
+                                                                 @PathVariable(name = "questionId") Long questionId,
+                                                                 @Token UserInfo userInfo,
+                                                                 @Valid @RequestBody AnswerDto answerDto) {
+        Answer answer = answerRepository.save(answerMapper.of(meetingId, questionId, answerDto, userInfo));
+        meetingEventPublishService.publishChangedEvent(meetingId, ChangeType.QNA_CHANGED);
+
+        return new ResponseQnaDto<>(questionQueryRepository.getAnswer(answer.getId()),
+                meetingVersionStore.generateETag(meetingId, meetingVersionStore.getVersion(meetingId)));
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @EnableAsync
 @Configuration
@@ -22,4 +23,21 @@ public class AsyncThreadConfig {
         executor.initialize();
         return executor;
     }
+
+    /*
+     * 목록 조회의 건수/부가 정보 쿼리를 병렬로 실행할 때 사용한다.
+     * 큐가 차면 요청 스레드에서 직접 실행해 커넥션 풀을 넘지 않도록 한다.
+     * 동시에 넘기는 작업 수는 MeetingQueryExecutor 에서 스레드 수(meeting.query.max-concurrent) 이하로 제한한다.
+     */
+    @Bean
+    public Executor queryTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("QueryThread");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -2,22 +2,36 @@ package com.example.momobe.common.config;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_CACHE_SCHEMA_VERSION;
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_COUNT_CACHE;
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_DETAIL_CACHE;
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_FACET_CACHE;
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_PAGE_CACHE;
+
 @Configuration
 @EnableCaching
-public class RedisConfig {
+public class RedisConfig extends CachingConfigurerSupport {
     @Value("${spring.redis.host}")
     private String host;
 
@@ -27,6 +41,21 @@ public class RedisConfig {
     @Value("${spring.redis.password}")
     private String password;
 
+    @Value("${meeting.count.ttl-seconds:300}")
+    private long meetingCountTtl;
+
+    @Value("${meeting.facet.ttl-seconds:60}")
+    private long meetingFacetTtl;
+
+    @Value("${meeting.page-cache.ttl-seconds:30}")
+    private long meetingPageTtl;
+
+    @Value("${meeting.detail-cache.ttl-seconds:300}")
+    private long meetingDetailTtl;
+
+    @Value("${spring.redis.timeout:1s}")
+    private Duration commandTimeout;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
@@ -34,7 +63,12 @@ public class RedisConfig {
         redisStandaloneConfiguration.setPort(port);
         redisStandaloneConfiguration.setPassword(password);
 
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+        // 응답 없는 Redis 를 기본 60초 동안 기다리지 않도록 명령 타임아웃을 짧게 둔다.
+        LettuceClientConfiguration lettuceClientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .build();
+
+        return new LettuceConnectionFactory(redisStandaloneConfiguration, lettuceClientConfiguration);
     }
 
     @Bean
@@ -58,6 +92,42 @@ public class RedisConfig {
                 .RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
                 .cacheDefaults(redisCacheConfiguration)
+                .withCacheConfiguration(MEETING_COUNT_CACHE, redisCacheConfiguration
+                        .entryTtl(Duration.ofSeconds(meetingCountTtl))
+                        .disableCachingNullValues()
+                        .serializeValuesWith(RedisSerializationContext
+                                .SerializationPair.fromSerializer(new GenericToStringSerializer<>(Long.class))))
+                .withCacheConfiguration(MEETING_FACET_CACHE, redisCacheConfiguration
+                        .entryTtl(Duration.ofSeconds(meetingFacetTtl))
+                        .disableCachingNullValues())
+                .withCacheConfiguration(MEETING_PAGE_CACHE, redisCacheConfiguration
+                        .entryTtl(Duration.ofSeconds(meetingPageTtl))
+                        .disableCachingNullValues()
+                        .computePrefixWith(RedisConfig::versionedPrefix)
+                        .serializeValuesWith(RedisSerializationContext
+                                .SerializationPair.fromSerializer(new JdkSerializationRedisSerializer())))
+                .withCacheConfiguration(MEETING_DETAIL_CACHE, redisCacheConfiguration
+                        .entryTtl(Duration.ofSeconds(meetingDetailTtl))
+                        .disableCachingNullValues()
+                        .computePrefixWith(RedisConfig::versionedPrefix)
+                        .serializeValuesWith(RedisSerializationContext
+                                .SerializationPair.fromSerializer(new JdkSerializationRedisSerializer())))
+                .enableStatistics()
                 .build();
     }
+
+    /**
+     * @Cacheable 캐시의 조회/역직렬화 실패는 로그만 남기고 캐시 미스로 처리한다.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    /**
+     * 배포 중 이전 버전 인스턴스가 저장한 항목을 읽지 않도록 dto 스키마 버전을 키에 붙인다.
+     */
+    private static String versionedPrefix(String cacheName) {
+        return cacheName + ":v" + MEETING_CACHE_SCHEMA_VERSION + "::";
+    }
 }
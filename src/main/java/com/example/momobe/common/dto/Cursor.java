@@ -0,0 +1,39 @@
+package com.example.momobe.common.dto;
+
+import com.example.momobe.common.exception.CanNotConvertException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.example.momobe.common.exception.enums.ErrorCode.CAN_NOT_CONVERT;
+
+@Getter
+@RequiredArgsConstructor
+public class Cursor {
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static Cursor decode(String value) {
+        if (!StringUtils.hasText(value)) return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER);
+            return new Cursor(LocalDateTime.parse(tokens[0]), Long.valueOf(tokens[1]));
+        } catch (Exception e) {
+            throw new CanNotConvertException(CAN_NOT_CONVERT);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.momobe.common.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSlice<T> {
+    private final List<T> content;
+    private final String nextCursor;
+
+    /*
+     * rows는 size + 1 개까지 조회한 결과, 초과분이 있을 때만 다음 커서를 만든다.
+     */
+    public static <T> CursorSlice<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorSlice<>(rows, null);
+        }
+
+        List<T> content = new ArrayList<>(rows.subList(0, size));
+        return new CursorSlice<>(content, cursorOf.apply(content.get(size - 1)).encode());
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.momobe.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -8,19 +9,32 @@ import org.springframework.data.domain.Page;
 import java.util.List;
 
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponseDto<T> {
     private final List<T> content;
     private final PageInfo pageInfo;
+    private final String nextCursor;
 
     public PageResponseDto(Page<T> page) {
         this.content = page.getContent();
         this.pageInfo = PageInfo.of(page);
+        this.nextCursor = null;
+    }
+
+    public PageResponseDto(CursorSlice<T> slice) {
+        this.content = slice.getContent();
+        this.pageInfo = null;
+        this.nextCursor = slice.getNextCursor();
     }
 
     public static <T> PageResponseDto<T> of(Page<T> page) {
         return new PageResponseDto<>(page);
     }
 
+    public static <T> PageResponseDto<T> of(CursorSlice<T> slice) {
+        return new PageResponseDto<>(slice);
+    }
+
     @Getter
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class PageInfo {
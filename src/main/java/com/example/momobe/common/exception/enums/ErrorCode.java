@@ -26,6 +26,7 @@ public enum ErrorCode {
     INVALID_PAYMENT_KEY(CONFLICT, "올바르지 않은 요청입니다."),
     PAST_RESERVATION_CAN_NOT_BE_MODIFIED(CONFLICT, "과거의 예약건은 수정할 수 없습니다."),
     INVALID_REQUEST_FOR_RESERVATION(CONFLICT, "올바르지 않은 요청입니다. 관리자에게 문의하세요."),
+    EXCEEDED_BATCH_SIZE(BAD_REQUEST, "한 번에 조회할 수 있는 모임 수를 초과했습니다."),
 
 
     /*
@@ -1,6 +1,7 @@
 package com.example.momobe.meeting.application;
 
 import com.example.momobe.meeting.dao.MeetingDao;
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +12,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MeetingAutoCloseService {
     private final MeetingDao meetingDao;
+    private final MeetingEventPublishService meetingEventPublishService;
 
     @Transactional
     public void process() {
@@ -18,6 +20,8 @@ public class MeetingAutoCloseService {
 
         if (!meetingIds.isEmpty()) {
             meetingDao.updateMeetingStateToClose(meetingIds);
+            meetingIds.forEach(meetingId ->
+                    meetingEventPublishService.publishChangedEvent(meetingId, ChangeType.CLOSED));
         }
     }
 }
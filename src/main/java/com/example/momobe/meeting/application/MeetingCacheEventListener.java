@@ -0,0 +1,39 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.domain.MeetingVersionStore;
+import com.example.momobe.meeting.event.MeetingChangedEvent;
+import com.example.momobe.meeting.event.MeetingSummaryProjectedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_COUNT_CACHE;
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_FACET_CACHE;
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_PAGE_CACHE;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class MeetingCacheEventListener {
+    private final MeetingVersionStore meetingVersionStore;
+
+    // 건수/목록 캐시는 요약 테이블을 읽으므로 비동기 반영이 끝난 뒤에 비워야 이전 요약이 다시 캐시되지 않는다.
+    @CacheEvict(cacheNames = {MEETING_COUNT_CACHE, MEETING_FACET_CACHE}, allEntries = true, condition = "#event.contentChanged")
+    @EventListener
+    public void evictCounts(MeetingSummaryProjectedEvent event) {
+    }
+
+    // 참여 인원이 바뀌면 목록의 모집 상태(detailState)도 달라지므로 질문/답변 외 모든 변경에 비운다.
+    @CacheEvict(cacheNames = MEETING_PAGE_CACHE, allEntries = true)
+    @EventListener
+    public void evictPages(MeetingSummaryProjectedEvent event) {
+    }
+
+    // 상세 캐시는 버전이 키에 포함되므로 버전만 올리면 이전 항목은 더 이상 조회되지 않고 TTL 로 만료된다.
+    @TransactionalEventListener(phase = AFTER_COMMIT, classes = MeetingChangedEvent.class)
+    public void increaseVersion(MeetingChangedEvent event) {
+        meetingVersionStore.increase(event.getMeetingId());
+    }
+}
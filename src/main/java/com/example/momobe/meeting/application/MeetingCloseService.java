@@ -1,5 +1,6 @@
 package com.example.momobe.meeting.application;
 
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
 import com.example.momobe.reservation.domain.Reservation;
 import com.example.momobe.reservation.domain.ReservationRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,9 @@ import static com.example.momobe.reservation.domain.enums.ReservationState.*;
 public class MeetingCloseService {
     private final MeetingCommonService meetingCommonService;
     private final ReservationRepository reservationRepository;
+    private final MeetingEventPublishService meetingEventPublishService;
+    private final MeetingParticipantCountService meetingParticipantCountService;
+    private final SlotOccupancyService slotOccupancyService;
 
     public void closeMeeting(Long userId, Long meetingId) {
         meetingCommonService.getMeeting(meetingId)
@@ -24,5 +28,8 @@ public class MeetingCloseService {
                 reservationRepository.findByMeetingIdAndReservationStateIn(
                         meetingId, List.of(PAYMENT_BEFORE, PAYMENT_PROGRESS, PAYMENT_SUCCESS));
         reservations.forEach(Reservation::cancel);
+        meetingParticipantCountService.decrease(meetingId, reservations.size());
+        slotOccupancyService.release(reservations);
+        meetingEventPublishService.publishChangedEvent(meetingId, ChangeType.CLOSED);
     }
 }
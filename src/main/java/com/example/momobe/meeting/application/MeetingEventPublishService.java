@@ -0,0 +1,36 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.event.MeetingChangedEvent;
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
+import com.example.momobe.meeting.event.MeetingSummaryProjectedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class MeetingEventPublishService implements ApplicationEventPublisherAware {
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Transactional
+    public void publishChangedEvent(Long meetingId, ChangeType changeType) {
+        MeetingChangedEvent changedEvent = MeetingChangedEvent.builder()
+                .meetingId(meetingId)
+                .changeType(changeType)
+                .build();
+
+        applicationEventPublisher.publishEvent(changedEvent);
+    }
+
+    public void publishSummaryProjectedEvent(MeetingChangedEvent changedEvent) {
+        applicationEventPublisher.publishEvent(new MeetingSummaryProjectedEvent(changedEvent));
+    }
+
+    @Override
+    public void setApplicationEventPublisher(@NonNull ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+}
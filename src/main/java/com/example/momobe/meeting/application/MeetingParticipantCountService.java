@@ -0,0 +1,42 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.dao.MeetingDao;
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 신청 확정 대기(PAYMENT_SUCCESS), 참여 확정(ACCEPT) 상태의 예약 수를 meeting.current_participants 에 반영한다.
+ * 예약 상태가 바뀌는 트랜잭션 안에서 호출되어야 한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MeetingParticipantCountService {
+    private final MeetingDao meetingDao;
+    private final MeetingEventPublishService meetingEventPublishService;
+
+    public void increase(Long meetingId) {
+        meetingDao.addCurrentParticipants(meetingId, 1L);
+        meetingEventPublishService.publishChangedEvent(meetingId, ChangeType.PARTICIPANTS_CHANGED);
+    }
+
+    public void increaseByReservationId(Long reservationId) {
+        increase(meetingDao.findMeetingIdByReservationId(reservationId));
+    }
+
+    public void decrease(Long meetingId) {
+        decrease(meetingId, 1);
+    }
+
+    public void decrease(Long meetingId, long count) {
+        if (count <= 0) return;
+        meetingDao.addCurrentParticipants(meetingId, -count);
+        meetingEventPublishService.publishChangedEvent(meetingId, ChangeType.PARTICIPANTS_CHANGED);
+    }
+
+    public void reconcile() {
+        meetingDao.reconcileCurrentParticipants();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.momobe.meeting.application;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.meeting.domain.MeetingRepository;
 import com.example.momobe.meeting.dto.in.MeetingRequestDto;
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
 import com.example.momobe.meeting.mapper.MeetingMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,12 +18,17 @@ public class MeetingRegistrationService {
     private final MeetingMapper meetingMapper;
     private final MeetingRepository meetingRepository;
     private final MeetingCommonService meetingCommonService;
+    private final MeetingEventPublishService meetingEventPublishService;
+    private final SlotOccupancyService slotOccupancyService;
 
     public Meeting saveMeeting(Long hostId, MeetingRequestDto meetingRequestDto) {
         List<Long> tagIds = meetingCommonService.verifyAddressesAndFindTagIds(
                 meetingRequestDto.getAddress().getAddressIds(), meetingRequestDto.getTags());
 
         Meeting meeting = meetingMapper.toMeeting(meetingRequestDto, hostId, tagIds);
-        return meetingRepository.save(meeting);
+        Meeting savedMeeting = meetingRepository.save(meeting);
+        slotOccupancyService.register(savedMeeting);
+        meetingEventPublishService.publishChangedEvent(savedMeeting.getId(), ChangeType.REGISTERED);
+        return savedMeeting;
     }
 }
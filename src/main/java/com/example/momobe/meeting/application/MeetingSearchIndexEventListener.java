@@ -0,0 +1,59 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.meeting.domain.MeetingRepository;
+import com.example.momobe.meeting.domain.MeetingSearchIndex;
+import com.example.momobe.meeting.event.MeetingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingSearchIndexEventListener {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingSearchIndex meetingSearchIndex;
+
+    @Async
+    @Transactional(propagation = REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener(phase = AFTER_COMMIT, classes = MeetingChangedEvent.class)
+    public void listen(MeetingChangedEvent event) {
+        if (!event.isContentChanged()) return;
+
+        meetingRepository.findById(event.getMeetingId())
+                .ifPresentOrElse(this::index, () -> meetingSearchIndex.remove(event.getMeetingId()));
+    }
+
+    @Async
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Page<Meeting> meetings;
+        int page = 0;
+        do {
+            meetings = meetingRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE, Sort.by("id")));
+            meetings.forEach(this::index);
+        } while (meetings.hasNext());
+
+        meetingSearchIndex.markReady();
+        log.info("모임 검색 색인 완료 : {}건", meetings.getTotalElements());
+    }
+
+    private void index(Meeting meeting) {
+        meetingSearchIndex.index(meeting.getId(), meeting.getTitle(), meeting.getContent(), meeting.getMeetingState());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.dao.MeetingSummarySourceQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingSummaryBackfillService {
+    private static final int BATCH_SIZE = 500;
+
+    private final MeetingSummarySourceQueryRepository meetingSummarySourceQueryRepository;
+    private final MeetingSummaryProjector meetingSummaryProjector;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissing() {
+        long count = backfill(meetingSummarySourceQueryRepository::findMeetingIdsWithoutSummary);
+        log.info("모임 요약 누락분 생성 완료 : {}건", count);
+    }
+
+    public void rebuild() {
+        long count = backfill(meetingSummarySourceQueryRepository::findMeetingIds);
+        log.info("모임 요약 재생성 완료 : {}건", count);
+    }
+
+    private long backfill(BiFunction<Long, Integer, List<Long>> nextMeetingIds) {
+        long count = 0;
+        Long lastMeetingId = 0L;
+        List<Long> meetingIds;
+
+        while (!(meetingIds = nextMeetingIds.apply(lastMeetingId, BATCH_SIZE)).isEmpty()) {
+            meetingSummaryProjector.project(meetingIds);
+            count += meetingIds.size();
+            lastMeetingId = meetingIds.get(meetingIds.size() - 1);
+        }
+
+        return count;
+    }
+}
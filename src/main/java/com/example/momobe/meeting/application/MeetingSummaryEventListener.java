@@ -0,0 +1,26 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.event.MeetingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class MeetingSummaryEventListener {
+    private final MeetingSummaryProjector meetingSummaryProjector;
+    private final MeetingEventPublishService meetingEventPublishService;
+
+    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, classes = MeetingChangedEvent.class)
+    public void listen(MeetingChangedEvent event) {
+        if (!event.isSummaryChanged()) return;
+        meetingSummaryProjector.project(List.of(event.getMeetingId()));
+        meetingEventPublishService.publishSummaryProjectedEvent(event);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.dao.MeetingSummarySourceQueryRepository;
+import com.example.momobe.meeting.domain.MeetingSummary;
+import com.example.momobe.meeting.domain.MeetingSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MeetingSummaryProjector {
+    private final MeetingSummarySourceQueryRepository meetingSummarySourceQueryRepository;
+    private final MeetingSummaryRepository meetingSummaryRepository;
+
+    public void project(List<Long> meetingIds) {
+        List<MeetingSummary> summaries = meetingSummarySourceQueryRepository.generateSummaries(meetingIds);
+        meetingSummaryRepository.saveAll(summaries);
+
+        Set<Long> projectedIds = summaries.stream()
+                .map(MeetingSummary::getMeetingId)
+                .collect(Collectors.toSet());
+        meetingIds.stream()
+                .filter(meetingId -> !projectedIds.contains(meetingId))
+                .filter(meetingSummaryRepository::existsById)
+                .forEach(meetingSummaryRepository::deleteById);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.meeting.domain.MeetingRepository;
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.event.MeetingChangedEvent;
+import com.example.momobe.tag.domain.Tag;
+import com.example.momobe.tag.domain.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingTagIndexEventListener {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final MeetingRepository meetingRepository;
+    private final TagRepository tagRepository;
+    private final MeetingTagIndex meetingTagIndex;
+
+    @Async
+    @Transactional(propagation = REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener(phase = AFTER_COMMIT, classes = MeetingChangedEvent.class)
+    public void listen(MeetingChangedEvent event) {
+        if (!event.isContentChanged()) return;
+
+        meetingRepository.findById(event.getMeetingId())
+                .ifPresentOrElse(
+                        meeting -> meetingTagIndex.index(meeting.getId(), tagRepository.findAllById(tagIdsOf(meeting))),
+                        () -> meetingTagIndex.remove(event.getMeetingId()));
+    }
+
+    @Async
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, Tag> tags = tagRepository.findAll().stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+
+        Page<Meeting> meetings;
+        int page = 0;
+        do {
+            meetings = meetingRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE, Sort.by("id")));
+            meetings.forEach(meeting -> meetingTagIndex.index(meeting.getId(), tagIdsOf(meeting).stream()
+                    .map(tags::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList())));
+        } while (meetings.hasNext());
+
+        meetingTagIndex.markReady();
+        log.info("모임 태그 색인 완료 : {}건", meetings.getTotalElements());
+    }
+
+    private List<Long> tagIdsOf(Meeting meeting) {
+        return meeting.getTagIds() == null ? List.of() : meeting.getTagIds();
+    }
+}
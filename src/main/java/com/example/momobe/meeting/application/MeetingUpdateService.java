@@ -2,6 +2,7 @@ package com.example.momobe.meeting.application;
 
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.meeting.dto.in.MeetingUpdateDto;
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
 import com.example.momobe.meeting.mapper.MeetingMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,8 @@ import java.util.List;
 public class MeetingUpdateService {
     private final MeetingMapper meetingMapper;
     private final MeetingCommonService meetingCommonService;
+    private final MeetingEventPublishService meetingEventPublishService;
+    private final SlotOccupancyService slotOccupancyService;
 
     public void updateMeeting(Long hostId, Long meetingId, MeetingUpdateDto updateDto) {
         List<Long> tagIds = meetingCommonService.verifyAddressesAndFindTagIds(
@@ -22,5 +25,7 @@ public class MeetingUpdateService {
         Meeting meeting = meetingCommonService.getMeeting(meetingId);
         Meeting newMeeting = meetingMapper.toMeeting(updateDto, hostId, tagIds);
         meeting.updateMeetingInfo(newMeeting);
+        slotOccupancyService.changeCapacity(meeting);
+        meetingEventPublishService.publishChangedEvent(meetingId, ChangeType.UPDATED);
     }
 }
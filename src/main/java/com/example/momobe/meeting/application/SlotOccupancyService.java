@@ -0,0 +1,68 @@
+package com.example.momobe.meeting.application;
+
+import com.example.momobe.meeting.dao.SlotOccupancyDao;
+import com.example.momobe.meeting.domain.DateTime;
+import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.reservation.domain.Reservation;
+import com.example.momobe.reservation.domain.ReservationDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 일정별 예약 인원을 slot_occupancy 에 반영한다.
+ * MeetingParticipantCountService 와 마찬가지로 예약 상태가 바뀌는 트랜잭션 안에서 호출되어야 한다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class SlotOccupancyService {
+    private final SlotOccupancyDao slotOccupancyDao;
+
+    public void register(Meeting meeting) {
+        List<LocalDateTime> slotStarts = meeting.getDateTimeInfo().getDateTimes().stream()
+                .map(DateTime::getDateTime)
+                .collect(Collectors.toList());
+        if (slotStarts.isEmpty()) return;
+
+        slotOccupancyDao.insertSlots(meeting.getId(), slotStarts, meeting.getPersonnel());
+    }
+
+    public void changeCapacity(Meeting meeting) {
+        slotOccupancyDao.updateCapacity(meeting.getId(), meeting.getPersonnel());
+    }
+
+    public void occupy(Reservation reservation) {
+        add(reservation, 1);
+    }
+
+    public void occupyByReservationId(Long reservationId) {
+        slotOccupancyDao.occupyByReservationId(reservationId);
+    }
+
+    public void release(Reservation reservation) {
+        add(reservation, -1);
+    }
+
+    public void release(List<Reservation> reservations) {
+        reservations.forEach(this::release);
+    }
+
+    public void reconcile() {
+        int inserted = slotOccupancyDao.insertMissingSlots();
+        slotOccupancyDao.reconcileOccupied();
+        log.info("일정별 예약 인원 재계산 완료, 누락 일정 {}건 추가", inserted);
+    }
+
+    private void add(Reservation reservation, int delta) {
+        ReservationDate reservationDate = reservation.getReservationDate();
+        slotOccupancyDao.addOccupied(reservation.getMeetingId(),
+                reservationDate.getStartDateTime(), reservationDate.getEndDateTime(), delta);
+    }
+}
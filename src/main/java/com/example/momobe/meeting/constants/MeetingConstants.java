@@ -1,5 +1,16 @@
 package com.example.momobe.meeting.constants;
 
 public class MeetingConstants {
-    public static final String RANKING_CACHE_KEY = "ranking";
+    public static final String RANKING_CACHE_KEY = "meetingRanking";
+    public static final String LEGACY_RANKING_KEY = "ranking";
+    public static final long TRENDING_REFRESH_SECONDS = 60;
+    public static final String MEETING_COUNT_CACHE = "meetingCount";
+    public static final String MEETING_FACET_CACHE = "meetingFacet";
+    public static final String MEETING_PAGE_CACHE = "meetingPage";
+    public static final String MEETING_DETAIL_CACHE = "meetingDetail";
+    // 페이지/상세 캐시에 직렬화해 저장하는 dto 의 필드 타입을 바꾸면 올린다
+    public static final int MEETING_CACHE_SCHEMA_VERSION = 1;
+    public static final String MEETING_VERSION_KEY = "meetingVersion";
+    public static final int IN_CLAUSE_LIMIT = 1000;
+    public static final int BATCH_LIMIT = 100;
 }
@@ -0,0 +1,31 @@
+package com.example.momobe.meeting.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+/**
+ * Cache 를 직접 호출하는 조회에서 사용한다. @Cacheable 과 달리 CacheErrorHandler 를 거치지 않으므로,
+ * 조회/역직렬화 실패(배포 중 다른 버전이 저장한 항목 등)는 캐시 미스로 보고 저장 실패는 무시한다.
+ */
+@Slf4j
+final class MeetingCacheSupport {
+    private MeetingCacheSupport() {
+    }
+
+    static <T> T get(Cache cache, Object key, Class<T> type) {
+        try {
+            return cache.get(key, type);
+        } catch (RuntimeException e) {
+            log.warn("캐시 조회 실패, 캐시 미스로 처리 cache={}, key={}", cache.getName(), key, e);
+            return null;
+        }
+    }
+
+    static void put(Cache cache, Object key, Object value) {
+        try {
+            cache.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("캐시 저장 실패 cache={}, key={}", cache.getName(), key, e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_COUNT_CACHE;
+import static com.example.momobe.meeting.domain.QMeetingSummary.meetingSummary;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeetingCountQueryRepository {
+    private final JPAQueryFactory queryFactory;
+    private final MeetingDao meetingDao;
+    private final MeetingTagIndex meetingTagIndex;
+
+    @Value("${meeting.count.approximate:false}")
+    private boolean approximate;
+
+    /**
+     * 검색어가 있는 경우는 검색 색인 결과로 건수를 구하므로 여기서는 카테고리/태그 조건만 다룬다.
+     * 캐시는 모든 인스턴스가 공유하므로, 캐시에 저장하는 건수는 인스턴스마다 반영 시점이 다른 태그 색인 대신 요약 테이블로 센다.
+     * 캐시하지 않는 여러 태그 조건은 태그 색인의 결과 건수를 사용한다.
+     * approximate 설정 시 조건이 없는 전체 건수는 테이블 통계의 추정치를 사용한다.
+     */
+    @Cacheable(cacheNames = MEETING_COUNT_CACHE, key = "#category + ':' + #tagNames",
+            condition = "#root.target.isCacheable(#tagNames)")
+    public Long count(Category category, List<String> tagNames, TagMatch tagMatch) {
+        if (approximate && category == null && tagNames.isEmpty()) {
+            Long estimated = meetingDao.estimateMeetingCount();
+            if (estimated != null) return estimated;
+        }
+
+        MeetingTagFilter tagFilter = isCacheable(tagNames)
+                ? MeetingTagFilter.of(tagNames, tagMatch)
+                : MeetingTagFilter.of(meetingTagIndex, tagNames, tagMatch);
+        if (tagFilter.isResolved() && (category == null || tagFilter.isUnmatched())) {
+            return (long) tagFilter.getMeetingIds().size();
+        }
+
+        return queryFactory
+                .select(meetingSummary.count())
+                .from(meetingSummary)
+                .where(eqCategory(category), tagFilter.toPredicate())
+                .fetchOne();
+    }
+
+    /**
+     * 캐시 키가 (카테고리 + 전체) x (등록된 태그 + 없음) 으로 제한되도록, 태그가 없거나 등록된 태그 하나인 조건만 캐시한다.
+     */
+    public boolean isCacheable(List<String> tagNames) {
+        return tagNames.isEmpty()
+                || (tagNames.size() == 1 && meetingTagIndex.containsTag(tagNames.get(0)));
+    }
+
+    private BooleanExpression eqCategory(Category category) {
+        if (category == null) return null;
+        return meetingSummary.category.eq(category);
+    }
+}
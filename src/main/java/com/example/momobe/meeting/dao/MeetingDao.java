@@ -6,22 +6,36 @@ import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface MeetingDao {
-    @Select("select dt.date_time as dateTime, date_format(dt.date_time, '%Y-%m-%d') as date, date_format(dt.date_time, '%H:%i:%s') as time, m.personnel, m.max_time as maxTime, m.price,\n" +
+    /**
+     * 일정은 (meeting_id, date_time), 예약은 (meeting_id, reservation_state, start_date_time) 인덱스 범위로만 읽는다.
+     * 예약은 하루 안에서 끝나므로 일정 구간 하루 전부터 시작한 예약만 겹칠 수 있다.
+     */
+    String RESERVATION_SCHEDULE = "select dt.date_time as dateTime, date_format(dt.date_time, '%Y-%m-%d') as date, date_format(dt.date_time, '%H:%i:%s') as time, m.personnel, m.max_time as maxTime, m.price,\n" +
             "       m.date_policy as datePolicy, count(r.reservation_id) as currentStaff, m.category,\n" +
             "       if ( count(r.reservation_id) >= m.personnel, 'false', 'true') as availability\n" +
             "    from date_time as dt\n" +
             "    inner join meeting m on dt.meeting_id = m.meeting_id\n" +
-            "    left join reservation r on m.meeting_id = r.meeting_id\n" +
-            "                                   and dt.date_time >= r.start_date_time\n" +
-            "                                   and dt.date_time < r.end_date_time\n" +
-            "                                   and (r.reservation_state = 'PAYMENT_SUCCESS' or r.reservation_state = 'PAYMENT_PROGRESS' or r.reservation_state = 'ACCEPT')\n" +
-            "    where dt.meeting_id = #{meetingId} and month(dt.date_time) = #{month}\n" +
-            "    group by dateTime, date, time, m.personnel, m.max_time, m.price, m.category, m.date_policy")
-    List<ResponseMeetingDatesDto> getMonthlyReservationSchedule(Long meetingId, Integer month);
+            "    left join reservation r on r.meeting_id = dt.meeting_id\n" +
+            "                                   and r.reservation_state in ('PAYMENT_SUCCESS', 'PAYMENT_PROGRESS', 'ACCEPT')\n" +
+            "                                   and r.start_date_time >= date_sub(#{from}, interval 1 day)\n" +
+            "                                   and r.start_date_time <= dt.date_time\n" +
+            "                                   and r.end_date_time > dt.date_time\n" +
+            "    where dt.meeting_id = #{meetingId} and dt.date_time >= #{from} and dt.date_time < #{to}\n" +
+            "    group by dateTime, date, time, m.personnel, m.max_time, m.price, m.category, m.date_policy";
+
+    /**
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (제외)
+     */
+    @Select(RESERVATION_SCHEDULE)
+    List<ResponseMeetingDatesDto> getReservationSchedule(@Param("meetingId") Long meetingId,
+                                                         @Param("from") LocalDateTime from,
+                                                         @Param("to") LocalDateTime to);
 
     @Select("SELECT meeting_id\n" +
             "FROM meeting\n" +
@@ -40,4 +54,24 @@ public interface MeetingDao {
             "</script>"
     })
     void updateMeetingStateToClose(@Param("meetingIds") List<Long> meetingIds);
+
+    @Update("UPDATE meeting\n" +
+            "SET current_participants = GREATEST(current_participants + #{delta}, 0)\n" +
+            "WHERE meeting_id = #{meetingId}")
+    void addCurrentParticipants(@Param("meetingId") Long meetingId, @Param("delta") Long delta);
+
+    @Select("SELECT meeting_id FROM reservation WHERE reservation_id = #{reservationId}")
+    Long findMeetingIdByReservationId(Long reservationId);
+
+    @Update("UPDATE meeting m\n" +
+            "SET m.current_participants = (SELECT count(r.reservation_id)\n" +
+            "                              FROM reservation r\n" +
+            "                              WHERE r.meeting_id = m.meeting_id\n" +
+            "                                AND r.reservation_state IN ('PAYMENT_SUCCESS', 'ACCEPT'))")
+    void reconcileCurrentParticipants();
+
+    @Select("SELECT table_rows\n" +
+            "FROM information_schema.tables\n" +
+            "WHERE table_schema = DATABASE() AND table_name = 'meeting'")
+    Long estimateMeetingCount();
 }
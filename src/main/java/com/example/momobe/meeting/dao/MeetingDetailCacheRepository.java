@@ -0,0 +1,63 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingVersionStore;
+import com.example.momobe.meeting.domain.enums.MeetingDetailSection;
+import com.example.momobe.meeting.dto.out.MeetingDetailResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_DETAIL_CACHE;
+
+/**
+ * 모임 상세를 (모임 id, 버전) 키로 캐시한다. 모임이 바뀌면 버전이 올라가 이전 항목은 조회되지 않는다.
+ * 같은 키에 대한 동시 캐시 미스는 먼저 들어온 요청의 조회 결과를 함께 기다린다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingDetailCacheRepository {
+    private final MeetingDetailQueryRepository meetingDetailQueryRepository;
+    private final MeetingVersionStore meetingVersionStore;
+    private final MeetingQueryExecutor meetingQueryExecutor;
+    private final CacheManager cacheManager;
+
+    private final ConcurrentMap<String, CompletableFuture<MeetingDetailResponseDto>> loadings = new ConcurrentHashMap<>();
+
+    public MeetingDetailResponseDto findById(Long meetingId) {
+        return findById(meetingId, meetingVersionStore.getVersion(meetingId), MeetingDetailSection.of(null));
+    }
+
+    /**
+     * 조회 항목 조합별로 따로 캐시한다. 조합은 최대 2^4 가지이다.
+     */
+    public MeetingDetailResponseDto findById(Long meetingId, long version, Set<MeetingDetailSection> sections) {
+        String key = meetingId + ":" + version + ":" + sections.stream().map(Enum::name).collect(Collectors.joining(","));
+        Cache cache = cacheManager.getCache(MEETING_DETAIL_CACHE);
+
+        MeetingDetailResponseDto cached = MeetingCacheSupport.get(cache, key, MeetingDetailResponseDto.class);
+        if (cached != null) return cached;
+
+        CompletableFuture<MeetingDetailResponseDto> loading = new CompletableFuture<>();
+        CompletableFuture<MeetingDetailResponseDto> inFlight = loadings.putIfAbsent(key, loading);
+        if (inFlight != null) return meetingQueryExecutor.join(inFlight);
+
+        try {
+            MeetingDetailResponseDto dto = meetingDetailQueryRepository.findById(meetingId, sections);
+            MeetingCacheSupport.put(cache, key, dto);
+            loading.complete(dto);
+            return dto;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadings.remove(key, loading);
+        }
+    }
+}
@@ -2,91 +2,169 @@ package com.example.momobe.meeting.dao;
 
 import com.example.momobe.common.exception.enums.ErrorCode;
 import com.example.momobe.meeting.domain.MeetingException;
+import com.example.momobe.meeting.domain.enums.MeetingDetailSection;
 import com.example.momobe.meeting.dto.out.MeetingDetailResponseDto;
-import com.example.momobe.meeting.dto.out.QMeetingDetailResponseDto;
 import com.example.momobe.question.dto.out.ResponseQuestionDto;
 import com.example.momobe.question.infrastructure.QuestionQueryRepository;
 import com.example.momobe.user.domain.QUser;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static com.example.momobe.address.domain.QAddress.address;
-import static com.example.momobe.answer.domain.QAnswer.answer;
 import static com.example.momobe.meeting.domain.QDateTime.dateTime1;
 import static com.example.momobe.meeting.domain.QMeeting.meeting;
-import static com.example.momobe.question.domain.QQuestion.question;
-import static com.example.momobe.reservation.domain.QReservation.reservation;
+import static com.example.momobe.meeting.domain.enums.MeetingDetailSection.*;
 import static com.example.momobe.tag.domain.QTag.tag;
 import static com.example.momobe.user.domain.QAvatar.avatar;
-import static com.querydsl.core.group.GroupBy.*;
-import static com.querydsl.core.types.dsl.Expressions.constant;
 
+/**
+ * 상세 정보를 모임 / 주소 / 태그 / 일정 / 질문 단위로 나눠 각각 모임 id 로 조회한다.
+ * 한 번에 조인하면 주소 x 태그 x 일정 x 질문 x 답변 만큼 row 가 늘어나므로 분리하며,
+ * meeting.query.parallel 설정 시 모임 외의 조회는 병렬로 실행한다.
+ */
 @Repository
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MeetingDetailQueryRepository {
+    private static final StringExpression SI_GU = address.si.append(" ").append(address.gu);
+
     private final JPAQueryFactory queryFactory;
     private final QuestionQueryRepository questionQueryRepository;
+    private final MeetingQueryExecutor meetingQueryExecutor;
 
     QUser host = new QUser("host");
-    QUser questioner = new QUser("questioner");
-    QUser answerer = new QUser("answerer");
 
     public MeetingDetailResponseDto findById(Long meetingId) {
-        List<MeetingDetailResponseDto> dtos = queryFactory
+        return findById(meetingId, MeetingDetailSection.of(null));
+    }
+
+    /**
+     * 요청한 항목만 조회하며, 나머지 항목은 쿼리를 실행하지 않고 null 로 둔다.
+     * 없는 모임에 대해 부가 조회를 띄우지 않도록 모임부터 확인한다.
+     */
+    public MeetingDetailResponseDto findById(Long meetingId, Set<MeetingDetailSection> sections) {
+        Tuple core = findCore(meetingId);
+        if (core == null) throw new MeetingException(ErrorCode.DATA_NOT_FOUND);
+
+        CompletableFuture<List<Tuple>> addresses = submitIf(sections.contains(ADDRESSES), () -> findAddresses(meetingId));
+        CompletableFuture<List<String>> tags = submitIf(sections.contains(TAGS), () -> findTags(meetingId));
+        CompletableFuture<List<LocalDateTime>> dateTimes = submitIf(sections.contains(DATES), () -> findDateTimes(meetingId));
+        CompletableFuture<List<ResponseQuestionDto>> questions =
+                submitIf(sections.contains(QUESTIONS), () -> questionQueryRepository.getQuestions(meetingId));
+
+        Set<Long> addressIds = null;
+        Set<String> addressNames = null;
+        List<Tuple> addressRows = meetingQueryExecutor.join(addresses);
+        if (addressRows != null) {
+            addressIds = new LinkedHashSet<>();
+            addressNames = new LinkedHashSet<>();
+            for (Tuple row : addressRows) {
+                addressIds.add(row.get(address.id));
+                addressNames.add(row.get(SI_GU));
+            }
+        }
+        List<String> tagNames = meetingQueryExecutor.join(tags);
+
+        MeetingDetailResponseDto dto = new MeetingDetailResponseDto(
+                meetingId,
+                core.get(meeting.category),
+                core.get(meeting.hostId),
+                core.get(host.nickname.nickname),
+                core.get(avatar.remotePath),
+                core.get(host.email.address),
+                core.get(meeting.title),
+                core.get(meeting.content),
+                core.get(meeting.address.addressInfo),
+                core.get(meeting.meetingState),
+                core.get(meeting.dateTimeInfo.datePolicy),
+                core.get(meeting.dateTimeInfo.startDate),
+                core.get(meeting.dateTimeInfo.endDate),
+                core.get(meeting.dateTimeInfo.startTime),
+                core.get(meeting.dateTimeInfo.endTime),
+                core.get(meeting.dateTimeInfo.maxTime),
+                core.get(meeting.price),
+                core.get(meeting.personnel),
+                addressIds,
+                addressNames,
+                tagNames == null ? null : new LinkedHashSet<>(tagNames),
+                meetingQueryExecutor.join(dateTimes),
+                core.get(meeting.currentParticipants),
+                core.get(meeting.personnel).longValue());
+        dto.init(meetingQueryExecutor.join(questions));
+
+        return dto;
+    }
+
+    private <T> CompletableFuture<T> submitIf(boolean requested, Supplier<T> query) {
+        if (!requested) return CompletableFuture.completedFuture(null);
+        return meetingQueryExecutor.submit(query);
+    }
+
+    private Tuple findCore(Long meetingId) {
+        return queryFactory
+                .select(meeting.category,
+                        meeting.hostId,
+                        host.nickname.nickname,
+                        avatar.remotePath,
+                        host.email.address,
+                        meeting.title,
+                        meeting.content,
+                        meeting.address.addressInfo,
+                        meeting.meetingState,
+                        meeting.dateTimeInfo.datePolicy,
+                        meeting.dateTimeInfo.startDate,
+                        meeting.dateTimeInfo.endDate,
+                        meeting.dateTimeInfo.startTime,
+                        meeting.dateTimeInfo.endTime,
+                        meeting.dateTimeInfo.maxTime,
+                        meeting.price,
+                        meeting.personnel,
+                        meeting.currentParticipants)
                 .from(meeting)
-                .where(meeting.id.eq(meetingId))
                 .leftJoin(host).on(meeting.hostId.eq(host.id))
                 .leftJoin(host.avatar, avatar)
-                .leftJoin(address).on(meeting.address.addressIds.contains(address.id))
-                .leftJoin(tag).on(meeting.tagIds.contains(tag.id))
-                .leftJoin(meeting.dateTimeInfo.dateTimes, dateTime1)
-                .leftJoin(question).on(question.meeting.meetingId.eq(meetingId))
-                .leftJoin(answer).on(answer.question.questionId.eq(question.id))
-                .leftJoin(questioner).on(question.writer.writerId.eq(questioner.id))
-                .leftJoin(answerer).on(answer.writer.writerId.eq(answerer.id))
-                .leftJoin(questioner.avatar, avatar)
-                .leftJoin(answerer.avatar, avatar)
-                .transform(groupBy(meeting.id)
-                        .list(new QMeetingDetailResponseDto(
-                                constant(meetingId),
-                                meeting.category,
-                                meeting.hostId,
-                                host.nickname.nickname,
-                                host.avatar.remotePath,
-                                host.email.address,
-                                meeting.title,
-                                meeting.content,
-                                meeting.address.addressInfo,
-                                meeting.meetingState,
-                                meeting.dateTimeInfo.datePolicy,
-                                meeting.dateTimeInfo.startDate,
-                                meeting.dateTimeInfo.endDate,
-                                meeting.dateTimeInfo.startTime,
-                                meeting.dateTimeInfo.endTime,
-                                meeting.dateTimeInfo.maxTime,
-                                meeting.price,
-                                meeting.personnel,
-                                set(address.id),
-                                set(address.si.append(" ").append(address.gu)),
-                                set(tag.name),
-                                list(dateTime1.dateTime),
-                                JPAExpressions.select(reservation.count())
-                                        .from(reservation)
-                                        .where(reservation.meetingId.eq(meeting.id)),
-                                meeting.personnel.longValue()))
-                        );
-
-        if (dtos.isEmpty()) throw new MeetingException(ErrorCode.DATA_NOT_FOUND);
-
-        List<ResponseQuestionDto> questionDtos = questionQueryRepository.getQuestions(meetingId);
-        dtos.get(0).init(questionDtos);
-
-        return dtos.get(0);
+                .where(meeting.id.eq(meetingId))
+                .fetchOne();
+    }
+
+    private List<Tuple> findAddresses(Long meetingId) {
+        return queryFactory
+                .select(address.id, SI_GU)
+                .from(meeting)
+                .innerJoin(address).on(meeting.address.addressIds.contains(address.id))
+                .where(meeting.id.eq(meetingId))
+                .orderBy(address.id.asc())
+                .fetch();
+    }
+
+    private List<String> findTags(Long meetingId) {
+        return queryFactory
+                .select(tag.name)
+                .from(meeting)
+                .innerJoin(tag).on(meeting.tagIds.contains(tag.id))
+                .where(meeting.id.eq(meetingId))
+                .orderBy(tag.id.asc())
+                .fetch();
+    }
+
+    private List<LocalDateTime> findDateTimes(Long meetingId) {
+        return queryFactory
+                .select(dateTime1.dateTime)
+                .from(meeting)
+                .innerJoin(meeting.dateTimeInfo.dateTimes, dateTime1)
+                .where(meeting.id.eq(meetingId))
+                .orderBy(dateTime1.dateTime.asc())
+                .fetch();
     }
 }
@@ -0,0 +1,102 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingSearchIndex;
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.meeting.dto.out.MeetingFacetResponseDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_FACET_CACHE;
+import static com.example.momobe.meeting.domain.QMeetingSummary.meetingSummary;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeetingFacetQueryRepository {
+    private final JPAQueryFactory queryFactory;
+    private final MeetingQueryFactoryUtil meetingQueryFactoryUtil;
+    private final MeetingSearchIndex meetingSearchIndex;
+    private final MeetingTagIndex meetingTagIndex;
+
+    /**
+     * 현재 검색 조건에 해당하는 모임의 카테고리별, 태그별 건수를 구한다.
+     * 요약 테이블은 검색어/태그/카테고리 조건으로 (id, 카테고리)만 한 번 조회하고, 태그별 건수는 태그 색인의 비트맵으로 센다.
+     * 조건이 없는 경우는 카테고리 group by 와 태그 비트맵 건수만으로 계산하며 캐시한다.
+     * 태그 색인이 준비되기 전에는 태그별 건수를 요약 테이블의 태그 group by 로 센다.
+     */
+    @Cacheable(cacheNames = MEETING_FACET_CACHE, key = "'all'",
+            condition = "!T(org.springframework.util.StringUtils).hasText(#keyword) && #category == null && (#tagNames == null || #tagNames.isEmpty())")
+    public MeetingFacetResponseDto findFacets(String keyword, Category category, List<String> tagNames, TagMatch tagMatch) {
+        MeetingTagFilter tagFilter = MeetingTagFilter.of(meetingTagIndex, meetingQueryFactoryUtil.normalizeTagNames(tagNames), tagMatch);
+        if (tagFilter.isUnmatched()) return MeetingFacetResponseDto.empty();
+
+        if (!StringUtils.hasText(keyword) && !tagFilter.isPresent() && category == null) {
+            return MeetingFacetResponseDto.of(countAllCategories(), countTags(null));
+        }
+
+        Predicate[] conditions = {
+                meetingQueryFactoryUtil.containsKeyword(meetingSearchIndex, keyword), tagFilter.toPredicate(), eqCategory(category)
+        };
+        List<Tuple> rows = queryFactory
+                .select(meetingSummary.meetingId, meetingSummary.category)
+                .from(meetingSummary)
+                .where(conditions)
+                .fetch();
+
+        Map<Category, Long> categoryCounts = new EnumMap<>(Category.class);
+        List<Long> meetingIds = new ArrayList<>(rows.size());
+        rows.forEach(row -> {
+            categoryCounts.merge(row.get(meetingSummary.category), 1L, Long::sum);
+            meetingIds.add(row.get(meetingSummary.meetingId));
+        });
+
+        return MeetingFacetResponseDto.of(categoryCounts, countTags(meetingIds, conditions));
+    }
+
+    /**
+     * @param meetingIds 집계 대상 모임 id, null 이면 전체 모임
+     * @param conditions 태그 색인이 준비되기 전 요약 테이블에서 대상 모임을 고르는 조건
+     */
+    private Map<String, Long> countTags(List<Long> meetingIds, Predicate... conditions) {
+        if (meetingTagIndex.isReady()) return meetingTagIndex.countTags(meetingIds);
+
+        Map<String, Long> tagCounts = new LinkedHashMap<>();
+        queryFactory
+                .select(MeetingTagFilter.TAG_NAME, meetingSummary.count())
+                .from(meetingSummary)
+                .innerJoin(meetingSummary.tagNames, MeetingTagFilter.TAG_NAME)
+                .where(conditions)
+                .groupBy(MeetingTagFilter.TAG_NAME)
+                .orderBy(meetingSummary.count().desc(), MeetingTagFilter.TAG_NAME.asc())
+                .fetch()
+                .forEach(row -> tagCounts.put(row.get(MeetingTagFilter.TAG_NAME), row.get(meetingSummary.count())));
+        return tagCounts;
+    }
+
+    private Map<Category, Long> countAllCategories() {
+        Map<Category, Long> categoryCounts = new EnumMap<>(Category.class);
+        queryFactory
+                .select(meetingSummary.category, meetingSummary.count())
+                .from(meetingSummary)
+                .groupBy(meetingSummary.category)
+                .fetch()
+                .forEach(row -> categoryCounts.put(row.get(meetingSummary.category), row.get(meetingSummary.count())));
+        return categoryCounts;
+    }
+
+    private BooleanExpression eqCategory(Category category) {
+        if (category == null) return null;
+        return meetingSummary.category.eq(category);
+    }
+}
@@ -1,26 +1,25 @@
 package com.example.momobe.meeting.dao;
 
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
 import com.example.momobe.meeting.dto.out.*;
 import com.example.momobe.reservation.domain.enums.ReservationState;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import static com.example.momobe.address.domain.QAddress.address;
-import static com.example.momobe.meeting.domain.QDateTime.dateTime1;
-import static com.example.momobe.meeting.domain.QMeeting.meeting;
+import static com.example.momobe.meeting.domain.QMeetingSummary.meetingSummary;
 import static com.example.momobe.reservation.domain.QReservation.reservation;
 import static com.example.momobe.user.domain.QAvatar.avatar;
 import static com.example.momobe.user.domain.QUser.user;
@@ -33,72 +32,79 @@ import static com.querydsl.core.group.GroupBy.set;
 public class MeetingHostQueryRepository {
     private final JPAQueryFactory queryFactory;
     private final MeetingQueryFactoryUtil meetingQueryFactoryUtil;
+    private final MeetingQueryExecutor meetingQueryExecutor;
 
     public Page<MeetingHostResponseDto> findAll(Long hostId, Pageable pageable) {
-        List<MeetingHostResponseDto> dtos = meetingQueryFactoryUtil
-                .generateMeetingQuery(queryFactory, pageable)
-                .select(new QMeetingHostResponseDto(
-                        meeting.id,
-                        meeting.category,
-                        meeting.hostId,
-                        user.nickname.nickname,
-                        avatar.remotePath,
-                        user.email.address,
-                        meeting.title,
-                        meeting.content,
-                        meeting.address.addressInfo,
-                        meeting.meetingState,
-                        meeting.dateTimeInfo.datePolicy,
-                        meeting.dateTimeInfo.startDate,
-                        meeting.dateTimeInfo.endDate,
-                        meeting.dateTimeInfo.startTime,
-                        meeting.dateTimeInfo.endTime,
-                        meeting.dateTimeInfo.maxTime,
-                        meeting.price,
-                        JPAExpressions.select(reservation.count())
-                                .from(reservation)
-                                .where(reservation.meetingId.eq(meeting.id)),
-                        meeting.personnel.longValue()))
-                .where(meeting.hostId.eq(hostId))
-                .fetch();
+        return meetingQueryExecutor.fetchPage(
+                () -> fetchMeetings(meetingQueryFactoryUtil.generateMeetingQuery(queryFactory, pageable), hostId),
+                this::initApplications,
+                pageable,
+                () -> queryFactory
+                        .select(meetingSummary.count())
+                        .from(meetingSummary)
+                        .where(meetingSummary.hostId.eq(hostId))
+                        .fetchOne());
+    }
+
+    public CursorSlice<MeetingHostResponseDto> findAll(Long hostId, Cursor cursor, int size) {
+        CursorSlice<MeetingHostResponseDto> slice = meetingQueryFactoryUtil.fetchSummarySlice(
+                meetingQueryFactoryUtil.generateMeetingCursorQuery(queryFactory, cursor, size).where(meetingSummary.hostId.eq(hostId)),
+                projection(), size, meetingSummary.createdAt, MeetingHostResponseDto::getMeetingId);
+        initApplications(slice.getContent());
+
+        return slice;
+    }
+
+    private List<MeetingHostResponseDto> fetchMeetings(JPAQuery<?> query, Long hostId) {
+        return meetingQueryFactoryUtil.fetchSummaries(query.where(meetingSummary.hostId.eq(hostId)), projection());
+    }
 
+    private QMeetingHostResponseDto projection() {
+        return new QMeetingHostResponseDto(
+                meetingSummary.meetingId,
+                meetingSummary.category,
+                meetingSummary.hostId,
+                meetingSummary.hostNickname,
+                meetingSummary.hostImageUrl,
+                meetingSummary.hostEmail,
+                meetingSummary.title,
+                meetingSummary.excerpt,
+                meetingSummary.addressInfo,
+                meetingSummary.meetingState,
+                meetingSummary.datePolicy,
+                meetingSummary.startDate,
+                meetingSummary.endDate,
+                meetingSummary.startTime,
+                meetingSummary.endTime,
+                meetingSummary.maxTime,
+                meetingSummary.price,
+                meetingSummary.currentParticipants,
+                meetingSummary.personnel.longValue());
+    }
+
+    private void initApplications(List<MeetingHostResponseDto> dtos) {
         List<Long> meetingIds = dtos.stream()
                 .map(MeetingResponseDto::getMeetingId).collect(Collectors.toList());
 
-        Map<Long, MeetingInfoDto> meetingInfoDtoMap = queryFactory
-                .from(meeting)
-                .leftJoin(reservation).on(reservation.meetingId.eq(meeting.id))
+        Map<Long, Set<MeetingInfoDto.ReservationDto>> reservations = queryFactory
+                .from(reservation)
                 .leftJoin(user).on(reservation.reservedUser.userId.eq(user.id))
                 .leftJoin(user.avatar, avatar)
-                .leftJoin(address).on(address.id.in(meeting.address.addressIds))
-                .leftJoin(meeting.dateTimeInfo.dateTimes, dateTime1)
-                .where(meeting.id.in(meetingIds).and(
+                .where(reservation.meetingId.in(meetingIds).and(
                         reservation.reservationState.eq(ReservationState.ACCEPT).or(eqPaymentSuccessAndFuture())))
                 .transform(
-                        groupBy(meeting.id).as(
-                                new QMeetingInfoDto(
-                                        set(new QMeetingInfoDto_ReservationDto(
-                                                reservation.id, user.id,
-                                                user.nickname.nickname, avatar.remotePath, user.email.address,
-                                                reservation.reservationState, reservation.reservationDate.date,
-                                                reservation.reservationDate.startTime, reservation.reservationDate.endTime,
-                                                reservation.reservationMemo.content)),
-                                        set(address.si.append(" ").append(address.gu)),
-                                        set(dateTime1.dateTime))
-
+                        groupBy(reservation.meetingId).as(
+                                set(new QMeetingInfoDto_ReservationDto(
+                                        reservation.id, user.id,
+                                        user.nickname.nickname, avatar.remotePath, user.email.address,
+                                        reservation.reservationState, reservation.reservationDate.date,
+                                        reservation.reservationDate.startTime, reservation.reservationDate.endTime,
+                                        reservation.reservationMemo.content))
                         ));
 
         MeetingInfoUtil meetingInfoUtil = new MeetingInfoUtil(dtos);
-        meetingInfoUtil.updateReservations(meetingInfoDtoMap);
-        meetingInfoUtil.updateAddressesAndDateTimes(meetingInfoDtoMap);
-        meetingInfoUtil.initMeetingHostResponseDto(dtos);
-
-        JPAQuery<Long> countQuery = queryFactory
-                .select(meeting.count())
-                .from(meeting)
-                .where(meeting.hostId.eq(hostId));
-
-        return PageableExecutionUtils.getPage(dtos, pageable, countQuery::fetchOne);
+        meetingInfoUtil.updateReservations(reservations);
+        meetingInfoUtil.initApplications(dtos);
     }
 
     private BooleanExpression eqPaymentSuccessAndFuture() {
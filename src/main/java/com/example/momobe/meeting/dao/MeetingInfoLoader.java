@@ -0,0 +1,72 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.dto.out.MeetingInfoDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.example.momobe.address.domain.QAddress.address;
+import static com.example.momobe.meeting.domain.QDateTime.dateTime1;
+import static com.example.momobe.meeting.domain.QMeeting.meeting;
+
+/**
+ * 요약(meeting_summary) 생성 시 주소/일정을 모임 id 기준으로 각각 한 번씩 조회한다.
+ * 하나의 쿼리로 조인하면 주소 x 일정 (x 예약) 만큼 row 가 늘어나므로 분리한다.
+ */
+@Component
+public class MeetingInfoLoader {
+    private static final StringExpression SI_GU = address.si.append(" ").append(address.gu);
+
+    public Map<Long, MeetingInfoDto> loadAddressesAndDateTimes(JPAQueryFactory queryFactory, List<Long> meetingIds) {
+        return loadAddressesAndDateTimes(queryFactory, meetingIds, Map.of());
+    }
+
+    public Map<Long, MeetingInfoDto> loadAddressesAndDateTimes(JPAQueryFactory queryFactory, List<Long> meetingIds,
+                                                               Map<Long, Set<MeetingInfoDto.ReservationDto>> reservations) {
+        if (meetingIds.isEmpty()) return Map.of();
+
+        Map<Long, Set<String>> addresses = loadAddresses(queryFactory, meetingIds);
+        Map<Long, Set<LocalDateTime>> dateTimes = loadDateTimes(queryFactory, meetingIds);
+
+        Map<Long, MeetingInfoDto> meetingInfos = new LinkedHashMap<>();
+        meetingIds.forEach(meetingId -> meetingInfos.put(meetingId, new MeetingInfoDto(
+                reservations.getOrDefault(meetingId, Set.of()),
+                addresses.getOrDefault(meetingId, Set.of()),
+                dateTimes.getOrDefault(meetingId, Set.of()))));
+        return meetingInfos;
+    }
+
+    private Map<Long, Set<String>> loadAddresses(JPAQueryFactory queryFactory, List<Long> meetingIds) {
+        List<Tuple> rows = queryFactory
+                .select(meeting.id, SI_GU)
+                .from(meeting)
+                .innerJoin(address).on(address.id.in(meeting.address.addressIds))
+                .where(meeting.id.in(meetingIds))
+                .orderBy(meeting.id.asc(), address.id.asc())
+                .fetch();
+
+        Map<Long, Set<String>> addresses = new HashMap<>();
+        rows.forEach(row -> addresses.computeIfAbsent(row.get(meeting.id), key -> new LinkedHashSet<>())
+                .add(row.get(SI_GU)));
+        return addresses;
+    }
+
+    private Map<Long, Set<LocalDateTime>> loadDateTimes(JPAQueryFactory queryFactory, List<Long> meetingIds) {
+        List<Tuple> rows = queryFactory
+                .select(meeting.id, dateTime1.dateTime)
+                .from(meeting)
+                .innerJoin(meeting.dateTimeInfo.dateTimes, dateTime1)
+                .where(meeting.id.in(meetingIds))
+                .orderBy(meeting.id.asc(), dateTime1.dateTime.asc())
+                .fetch();
+
+        Map<Long, Set<LocalDateTime>> dateTimes = new HashMap<>();
+        rows.forEach(row -> dateTimes.computeIfAbsent(row.get(meeting.id), key -> new LinkedHashSet<>())
+                .add(row.get(dateTime1.dateTime)));
+        return dateTimes;
+    }
+}
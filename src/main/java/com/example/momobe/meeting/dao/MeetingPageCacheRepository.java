@@ -0,0 +1,71 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.meeting.dto.out.MeetingPageDto;
+import com.example.momobe.meeting.dto.out.MeetingResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_PAGE_CACHE;
+
+/**
+ * 검색어가 없는 기본 목록과 카테고리/단일 태그 목록의 앞쪽 페이지를 기본 페이지 크기일 때만 캐시한다.
+ * 태그는 태그 색인에 등록된 태그만 캐시하므로 키 개수는 (카테고리 + 전체) x (등록된 태그 + 없음) x max-page 로 제한되며,
+ * 그 외 조건은 바로 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingPageCacheRepository {
+    private final MeetingQueryRepository meetingQueryRepository;
+    private final MeetingQueryFactoryUtil meetingQueryFactoryUtil;
+    private final MeetingTagIndex meetingTagIndex;
+    private final CacheManager cacheManager;
+
+    @Value("${meeting.page-cache.max-page:3}")
+    private int maxCachedPage;
+
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultPageSize;
+
+    public Page<MeetingResponseDto> findAll(String keyword, Category category,
+                                            List<String> tagNames, TagMatch tagMatch, Pageable pageable) {
+        List<String> normalizedTagNames = meetingQueryFactoryUtil.normalizeTagNames(tagNames);
+        if (!isCacheable(keyword, normalizedTagNames, pageable)) {
+            return meetingQueryRepository.findAll(keyword, category, normalizedTagNames, tagMatch, pageable);
+        }
+
+        // RedisCache.get(key, valueLoader) 는 synchronized 라 모든 요청이 한 모니터에서 대기하므로 조회와 저장을 나눈다.
+        Cache cache = cacheManager.getCache(MEETING_PAGE_CACHE);
+        String key = generateKey(category, normalizedTagNames, pageable);
+        MeetingPageDto page = MeetingCacheSupport.get(cache, key, MeetingPageDto.class);
+        if (page == null) {
+            page = MeetingPageDto.of(meetingQueryRepository.findAll(null, category, normalizedTagNames, null, pageable));
+            MeetingCacheSupport.put(cache, key, page);
+        }
+
+        return page.toPage(pageable);
+    }
+
+    private boolean isCacheable(String keyword, List<String> tagNames, Pageable pageable) {
+        return !StringUtils.hasText(keyword)
+                && (tagNames.isEmpty() || (tagNames.size() == 1 && meetingTagIndex.containsTag(tagNames.get(0))))
+                && pageable.getPageNumber() < maxCachedPage
+                && pageable.getPageSize() == defaultPageSize
+                && pageable.getSort().isUnsorted();
+    }
+
+    private String generateKey(Category category, List<String> tagNames, Pageable pageable) {
+        String tagName = tagNames.isEmpty() ? null : tagNames.get(0);
+        return category + ":" + tagName + ":" + pageable.getPageNumber();
+    }
+}
@@ -1,89 +1,112 @@
 package com.example.momobe.meeting.dao;
 
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
 import com.example.momobe.meeting.dto.out.*;
 import com.example.momobe.reservation.domain.enums.ReservationState;
 import com.example.momobe.user.domain.QAvatar;
 import com.example.momobe.user.domain.QUser;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
-import static com.example.momobe.address.domain.QAddress.address;
-import static com.example.momobe.meeting.domain.QDateTime.dateTime1;
-import static com.example.momobe.meeting.domain.QMeeting.meeting;
+import static com.example.momobe.meeting.domain.QMeetingSummary.meetingSummary;
 import static com.example.momobe.payment.domain.QPayment.payment;
 import static com.example.momobe.reservation.domain.QReservation.reservation;
 import static com.example.momobe.reservation.domain.enums.ReservationState.*;
-import static com.example.momobe.user.domain.QAvatar.avatar;
-import static com.example.momobe.user.domain.QUser.user;
-import static com.querydsl.core.group.GroupBy.*;
 
 @Repository
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MeetingParticipantQueryRepository {
+    private static final QUser participant = new QUser("participant");
+    private static final QAvatar participantAvatar = new QAvatar("participantAvatar");
+
     private final JPAQueryFactory queryFactory;
+    private final MeetingQueryFactoryUtil meetingQueryFactoryUtil;
+    private final MeetingQueryExecutor meetingQueryExecutor;
 
     public Page<MeetingParticipantResponseDto> findAll(Long participantId, Pageable pageable) {
-        QUser host = new QUser("host");
-        QUser participant = new QUser("participant");
-        QAvatar hostAvatar = new QAvatar("hostAvatar");
-        QAvatar participantAvatar = new QAvatar("participantAvatar");
-        List<MeetingParticipantResponseDto> dtos = queryFactory
-                .select(new QMeetingParticipantResponseDto(
-                        meeting.id,
-                        meeting.category,
-                        meeting.hostId,
-                        host.nickname.nickname,
-                        hostAvatar.remotePath,
-                        host.email.address,
-                        meeting.title,
-                        meeting.content,
-                        meeting.address.addressInfo,
-                        meeting.meetingState,
-                        meeting.dateTimeInfo.datePolicy,
-                        meeting.dateTimeInfo.startDate,
-                        meeting.dateTimeInfo.endDate,
-                        meeting.dateTimeInfo.startTime,
-                        meeting.dateTimeInfo.endTime,
-                        meeting.dateTimeInfo.maxTime,
-                        meeting.price,
-                        new QMeetingParticipantResponseDto_ApplicationDto(
-                                Expressions.constant(participantId),
-                                participant.nickname.nickname,
-                                participantAvatar.remotePath,
-                                participant.email.address,
-                                reservation.reservationState,
-                                reservation.reservationMemo.content,
-                                payment.paymentKey,
-                                new QMeetingDateTimeDto(
-                                        reservation.reservationDate.date,
-                                        reservation.reservationDate.startTime,
-                                        reservation.reservationDate.endTime
-                                ),
-                                reservation.id,
-                                reservation.reservationDate.startDateTime
+        return meetingQueryExecutor.fetchPage(
+                () -> fetchParticipations(
+                        generateParticipantQuery(participantId)
+                                .orderBy(reservation.createdAt.desc())
+                                .offset(pageable.getOffset())
+                                .limit(pageable.getPageSize()), participantId),
+                dtos -> {},
+                pageable,
+                () -> queryFactory
+                        .select(reservation.count())
+                        .from(reservation)
+                        .where(reservation.reservedUser.userId.eq(participantId))
+                        .fetchOne());
+    }
+
+    public CursorSlice<MeetingParticipantResponseDto> findAll(Long participantId, Cursor cursor, int size) {
+        return meetingQueryFactoryUtil.fetchSummarySlice(
+                generateParticipantQuery(participantId)
+                        .where(beforeCursor(cursor))
+                        .orderBy(reservation.createdAt.desc(), reservation.id.desc())
+                        .limit(size + 1L),
+                projection(participantId), size, reservation.createdAt, dto -> dto.getApplication().getReservationId());
+    }
+
+    private List<MeetingParticipantResponseDto> fetchParticipations(JPAQuery<?> query, Long participantId) {
+        return meetingQueryFactoryUtil.fetchSummaries(query, projection(participantId));
+    }
+
+    private QMeetingParticipantResponseDto projection(Long participantId) {
+        return new QMeetingParticipantResponseDto(
+                meetingSummary.meetingId,
+                meetingSummary.category,
+                meetingSummary.hostId,
+                meetingSummary.hostNickname,
+                meetingSummary.hostImageUrl,
+                meetingSummary.hostEmail,
+                meetingSummary.title,
+                meetingSummary.excerpt,
+                meetingSummary.addressInfo,
+                meetingSummary.meetingState,
+                meetingSummary.datePolicy,
+                meetingSummary.startDate,
+                meetingSummary.endDate,
+                meetingSummary.startTime,
+                meetingSummary.endTime,
+                meetingSummary.maxTime,
+                meetingSummary.price,
+                new QMeetingParticipantResponseDto_ApplicationDto(
+                        Expressions.constant(participantId),
+                        participant.nickname.nickname,
+                        participantAvatar.remotePath,
+                        participant.email.address,
+                        reservation.reservationState,
+                        reservation.reservationMemo.content,
+                        payment.paymentKey,
+                        new QMeetingDateTimeDto(
+                                reservation.reservationDate.date,
+                                reservation.reservationDate.startTime,
+                                reservation.reservationDate.endTime
                         ),
-                        JPAExpressions.select(reservation.count())
-                                .from(reservation)
-                                .where(reservation.meetingId.eq(meeting.id)),
-                        meeting.personnel.longValue()))
+                        reservation.id,
+                        reservation.reservationDate.startDateTime
+                ),
+                meetingSummary.currentParticipants,
+                meetingSummary.personnel.longValue());
+    }
+
+    private JPAQuery<?> generateParticipantQuery(Long participantId) {
+        return queryFactory
                 .from(reservation)
-                .innerJoin(meeting).on(reservation.meetingId.eq(meeting.id))
-                .innerJoin(host).on(meeting.hostId.eq(host.id))
-                .leftJoin(host.avatar, hostAvatar)
+                .innerJoin(meetingSummary).on(reservation.meetingId.eq(meetingSummary.meetingId))
                 .innerJoin(participant).on(participant.id.eq(participantId))
                 .leftJoin(participant.avatar, participantAvatar)
                 .leftJoin(payment).on(payment.reservationId.eq(reservation.id))
@@ -93,40 +116,13 @@ public class MeetingParticipantQueryRepository {
                                         reservation.reservationState.eq(PAYMENT_SUCCESS)
                                         .and(reservation.reservationDate.startDateTime.after(LocalDateTime.now())
                                         ))))
-                )
-                .orderBy(reservation.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        List<Long> meetingIds = dtos.stream()
-                .map(MeetingResponseDto::getMeetingId).collect(Collectors.toList());
-
-        Map<Long, MeetingInfoDto> meetingInfoDtoMap = queryFactory
-                .from(meeting)
-                .where(meeting.id.in(meetingIds))
-                .leftJoin(reservation).on(reservation.meetingId.in(meetingIds))
-                .leftJoin(user).on(reservation.reservedUser.userId.eq(user.id))
-                .leftJoin(user.avatar, avatar)
-                .leftJoin(address).on(address.id.in(meeting.address.addressIds))
-                .leftJoin(meeting.dateTimeInfo.dateTimes, dateTime1)
-                .transform(
-                        groupBy(meeting.id).as(new QMeetingInfoDto(
-                                set(address.si.append(" ").append(address.gu)),
-                                set(dateTime1.dateTime))
-                        )
                 );
+    }
 
-        MeetingInfoUtil meetingInfoUtil = new MeetingInfoUtil(dtos);
-        meetingInfoUtil.updateAddressesAndDateTimes(meetingInfoDtoMap);
-        meetingInfoUtil.initMeetingResponseDto(dtos);
-
-        JPAQuery<Long> countQuery = queryFactory
-                .select(reservation.count())
-                .from(reservation)
-                .where(reservation.reservedUser.userId.eq(participantId));
-
-        return PageableExecutionUtils.getPage(dtos, pageable, countQuery::fetchOne);
+    private BooleanExpression beforeCursor(Cursor cursor) {
+        if (cursor == null) return null;
+        return reservation.createdAt.lt(cursor.getCreatedAt())
+                .or(reservation.createdAt.eq(cursor.getCreatedAt()).and(reservation.id.lt(cursor.getId())));
     }
 
 }
@@ -0,0 +1,90 @@
+package com.example.momobe.meeting.dao;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 목록 / 상세 조회에서 서로 독립적인 쿼리(건수, 부가 정보)를 별도 스레드에서 실행한다.
+ * 각 작업은 새 읽기 전용 트랜잭션으로 감싸 요청 스레드와 다른 EntityManager / 커넥션을 사용한다.
+ * meeting.query.parallel 이 꺼져 있으면 호출 스레드에서 바로 실행한다.
+ *
+ * 요청 스레드는 커넥션을 쥔 채로 다른 스레드의 결과를 기다리므로, 동시에 다른 스레드로 넘기는 작업 수를
+ * meeting.query.max-concurrent 로 제한한다. 한도를 넘으면 호출 스레드의 트랜잭션(커넥션)에서 바로 실행해
+ * 커넥션 풀이 모두 대기 중인 요청 스레드에 잡혀 작업이 커넥션을 얻지 못하는 상황을 막는다.
+ * 이 값은 queryTaskExecutor 의 스레드 수 이하, 커넥션 풀 크기의 절반 미만으로 둔다.
+ */
+@Component
+public class MeetingQueryExecutor {
+    private final Executor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean parallel;
+    private final Semaphore permits;
+
+    public MeetingQueryExecutor(@Qualifier("queryTaskExecutor") Executor executor,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${meeting.query.parallel:false}") boolean parallel,
+                                @Value("${meeting.query.max-concurrent:4}") int maxConcurrent) {
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.parallel = parallel;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 병렬 실행 시 건수 쿼리를 먼저 다른 스레드에서 시작하고, 요청 스레드는 목록 조회 후 부가 정보를 채운다.
+     * 순차 실행 시에는 기존처럼 마지막 페이지가 아닌 경우에만 건수를 조회한다.
+     */
+    public <T> Page<T> fetchPage(Supplier<List<T>> content, Consumer<List<T>> enrichment,
+                                 Pageable pageable, Supplier<Long> count) {
+        if (!parallel) {
+            List<T> dtos = content.get();
+            enrichment.accept(dtos);
+            return PageableExecutionUtils.getPage(dtos, pageable, count::get);
+        }
+
+        CompletableFuture<Long> total = submit(count);
+        List<T> dtos = content.get();
+        enrichment.accept(dtos);
+        return new PageImpl<>(dtos, pageable, join(total));
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        if (!parallel || !permits.tryAcquire()) {
+            return CompletableFuture.completedFuture(query.get());
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> query.get()), executor)
+                    .whenComplete((result, e) -> permits.release());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
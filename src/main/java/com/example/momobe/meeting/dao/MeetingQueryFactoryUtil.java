@@ -1,25 +1,129 @@
 package com.example.momobe.meeting.dao;
 
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
+import com.example.momobe.meeting.domain.MeetingSearchIndex;
+import com.example.momobe.meeting.dto.out.MeetingResponseDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.IN_CLAUSE_LIMIT;
+import static com.example.momobe.meeting.domain.MeetingSummary.*;
 import static com.example.momobe.meeting.domain.QMeeting.meeting;
-import static com.example.momobe.user.domain.QAvatar.avatar;
-import static com.example.momobe.user.domain.QUser.user;
+import static com.example.momobe.meeting.domain.QMeetingSummary.meetingSummary;
 
 @Component
 public class MeetingQueryFactoryUtil {
 
     public JPAQuery<?> generateMeetingQuery(JPAQueryFactory queryFactory, Pageable pageable) {
-        return queryFactory.from(meeting)
-                .leftJoin(user).on(meeting.hostId.eq(user.id))
-                .leftJoin(user.avatar, avatar)
-                .groupBy(meeting.id)
-                .orderBy(meeting.createdAt.desc())
+        return queryFactory.from(meetingSummary)
+                .orderBy(meetingSummary.createdAt.desc(), meetingSummary.meetingId.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
     }
 
+    public JPAQuery<?> generateMeetingQuery(JPAQueryFactory queryFactory, List<Long> meetingIds) {
+        return queryFactory.from(meetingSummary)
+                .where(meetingSummary.meetingId.in(meetingIds));
+    }
+
+    public JPAQuery<?> generateMeetingCursorQuery(JPAQueryFactory queryFactory, Cursor cursor, int size) {
+        return queryFactory.from(meetingSummary)
+                .where(beforeCursor(cursor))
+                .orderBy(meetingSummary.createdAt.desc(), meetingSummary.meetingId.desc())
+                .limit(size + 1L);
+    }
+
+    /**
+     * 요약 테이블에 문자열로 저장된 주소, 요일, 날짜 목록을 함께 조회해 dto 에 채운다.
+     */
+    public <T extends MeetingResponseDto> List<T> fetchSummaries(JPAQuery<?> query, Expression<T> projection) {
+        return query
+                .select(projection, meetingSummary.addresses, meetingSummary.dayWeeks, meetingSummary.dates)
+                .fetch()
+                .stream()
+                .map(tuple -> toDto(tuple, projection))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 정렬 키(sortKey)를 함께 조회해 마지막 row 로 다음 커서를 만들며, 커서를 위해 다시 조회하지 않는다.
+     * @param query size + 1 개까지 조회하는 커서 쿼리
+     */
+    public <T extends MeetingResponseDto> CursorSlice<T> fetchSummarySlice(JPAQuery<?> query, Expression<T> projection, int size,
+                                                                          Expression<LocalDateTime> sortKey, Function<T, Long> idOf) {
+        Map<T, LocalDateTime> sortKeys = new IdentityHashMap<>();
+        List<T> dtos = query
+                .select(projection, meetingSummary.addresses, meetingSummary.dayWeeks, meetingSummary.dates, sortKey)
+                .fetch()
+                .stream()
+                .map(tuple -> {
+                    T dto = toDto(tuple, projection);
+                    sortKeys.put(dto, tuple.get(sortKey));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+
+        return CursorSlice.of(dtos, size, dto -> new Cursor(sortKeys.get(dto), idOf.apply(dto)));
+    }
+
+    /**
+     * 캐시 키가 요청마다 달라지지 않도록 태그 이름을 정렬, 중복 제거한다.
+     */
+    public List<String> normalizeTagNames(List<String> tagNames) {
+        if (tagNames == null) return List.of();
+        return tagNames.stream()
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 검색 색인의 결과로 거르되, 색인이 아직 준비되지 않았거나 결과가 IN 절에 넣기에 많으면 LIKE 검색으로 대신한다.
+     */
+    public BooleanExpression containsKeyword(MeetingSearchIndex meetingSearchIndex, String keyword) {
+        if (!StringUtils.hasText(keyword)) return null;
+        if (meetingSearchIndex.isReady()) {
+            List<Long> meetingIds = meetingSearchIndex.search(keyword);
+            if (meetingIds.isEmpty()) return Expressions.FALSE.isTrue();
+            if (meetingIds.size() <= IN_CLAUSE_LIMIT) return meetingSummary.meetingId.in(meetingIds);
+        }
+        return meetingSummary.meetingId.in(JPAExpressions
+                .select(meeting.id)
+                .from(meeting)
+                .where(meeting.title.contains(keyword).or(meeting.content.contains(keyword))));
+    }
+
+    private <T extends MeetingResponseDto> T toDto(Tuple tuple, Expression<T> projection) {
+        T dto = tuple.get(projection);
+        dto.init(
+                splitAddresses(tuple.get(meetingSummary.addresses)),
+                splitDayWeeks(tuple.get(meetingSummary.dayWeeks)),
+                splitDates(tuple.get(meetingSummary.dates)));
+        return dto;
+    }
+
+    private BooleanExpression beforeCursor(Cursor cursor) {
+        if (cursor == null) return null;
+        return meetingSummary.createdAt.lt(cursor.getCreatedAt())
+                .or(meetingSummary.createdAt.eq(cursor.getCreatedAt()).and(meetingSummary.meetingId.lt(cursor.getId())));
+    }
+
 }
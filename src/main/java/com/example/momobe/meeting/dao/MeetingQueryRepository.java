@@ -1,37 +1,37 @@
 package com.example.momobe.meeting.dao;
 
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
+import com.example.momobe.meeting.domain.MeetingSearchIndex;
+import com.example.momobe.meeting.domain.MeetingTagIndex;
 import com.example.momobe.meeting.domain.enums.Category;
-import com.example.momobe.meeting.dto.out.MeetingInfoDto;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.meeting.dto.out.MeetingBatchResponseDto;
 import com.example.momobe.meeting.dto.out.MeetingResponseDto;
-import com.example.momobe.meeting.dto.out.QMeetingInfoDto;
 import com.example.momobe.meeting.dto.out.QMeetingResponseDto;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static com.example.momobe.address.domain.QAddress.address;
-import static com.example.momobe.meeting.domain.QDateTime.dateTime1;
 import static com.example.momobe.meeting.domain.QMeeting.meeting;
-import static com.example.momobe.reservation.domain.QReservation.reservation;
-import static com.example.momobe.tag.domain.QTag.tag;
-import static com.example.momobe.user.domain.QAvatar.avatar;
-import static com.example.momobe.user.domain.QUser.user;
-import static com.querydsl.core.group.GroupBy.groupBy;
-import static com.querydsl.core.group.GroupBy.set;
+import static com.example.momobe.meeting.constants.MeetingConstants.IN_CLAUSE_LIMIT;
+import static com.example.momobe.meeting.domain.QMeetingSummary.meetingSummary;
 
 @Repository
 @RequiredArgsConstructor
@@ -39,82 +39,141 @@ import static com.querydsl.core.group.GroupBy.set;
 public class MeetingQueryRepository {
     private final JPAQueryFactory queryFactory;
     private final MeetingQueryFactoryUtil meetingQueryFactoryUtil;
+    private final MeetingCountQueryRepository meetingCountQueryRepository;
+    private final MeetingSearchIndex meetingSearchIndex;
+    private final MeetingTagIndex meetingTagIndex;
+    private final MeetingQueryExecutor meetingQueryExecutor;
 
-    public Page<MeetingResponseDto> findAll(String keyword, Category category, String tagName, Pageable pageable) {
-        List<MeetingResponseDto> dtos = meetingQueryFactoryUtil
-                .generateMeetingQuery(queryFactory, pageable)
-                .select(new QMeetingResponseDto(
-                        meeting.id,
-                        meeting.category,
-                        meeting.hostId,
-                        user.nickname.nickname,
-                        avatar.remotePath,
-                        user.email.address,
-                        meeting.title,
-                        new CaseBuilder()
-                                .when(meeting.content.length().gt(100))
-                                .then(meeting.content.substring(0, 101).append("..."))
-                                .otherwise(meeting.content),
-                        meeting.address.addressInfo,
-                        meeting.meetingState,
-                        meeting.dateTimeInfo.datePolicy,
-                        meeting.dateTimeInfo.startDate,
-                        meeting.dateTimeInfo.endDate,
-                        meeting.dateTimeInfo.startTime,
-                        meeting.dateTimeInfo.endTime,
-                        meeting.dateTimeInfo.maxTime,
-                        meeting.price,
-                        JPAExpressions.select(reservation.count())
-                                .from(reservation)
-                                .where(reservation.meetingId.eq(meeting.id)),
-                        meeting.personnel.longValue()))
-                .leftJoin(tag).on(tag.id.in(meeting.tagIds))
-                .where(containsKeyword(keyword), eqCategory(category), eqTagName(tagName))
-                .fetch();
-
-        List<Long> meetingIds = dtos.stream()
-                .map(MeetingResponseDto::getMeetingId).collect(Collectors.toList());
-
-        Map<Long, MeetingInfoDto> meetingInfoDtoMap = queryFactory
-                .from(meeting)
-                .where(meeting.id.in(meetingIds))
-                .leftJoin(reservation).on(reservation.meetingId.in(meetingIds))
-                .leftJoin(user).on(reservation.reservedUser.userId.eq(user.id))
-                .leftJoin(user.avatar, avatar)
-                .leftJoin(address).on(address.id.in(meeting.address.addressIds))
-                .leftJoin(meeting.dateTimeInfo.dateTimes, dateTime1)
-                .transform(
-                        groupBy(meeting.id).as(new QMeetingInfoDto(
-                                set(address.si.append(" ").append(address.gu)),
-                                set(dateTime1.dateTime))
-                        )
-                );
-
-        MeetingInfoUtil meetingInfoUtil = new MeetingInfoUtil(dtos);
-        meetingInfoUtil.updateAddressesAndDateTimes(meetingInfoDtoMap);
-        meetingInfoUtil.initMeetingResponseDto(dtos);
-
-        JPAQuery<Long> countQuery = queryFactory
-                .select(meeting.count())
-                .from(meeting)
-                .where(containsKeyword(keyword), eqCategory(category));
-
-        return PageableExecutionUtils.getPage(dtos, pageable, countQuery::fetchOne);
+    public Page<MeetingResponseDto> findAll(String keyword, Category category,
+                                            List<String> tagNames, TagMatch tagMatch, Pageable pageable) {
+        List<String> normalizedTagNames = meetingQueryFactoryUtil.normalizeTagNames(tagNames);
+        TagMatch match = tagMatch == null ? TagMatch.AND : tagMatch;
+        MeetingTagFilter tagFilter = MeetingTagFilter.of(meetingTagIndex, normalizedTagNames, match);
+        if (tagFilter.isUnmatched()) return Page.empty(pageable);
+
+        if (StringUtils.hasText(keyword)) {
+            if (meetingSearchIndex.isReady()) return findAllByRelevance(keyword, category, tagFilter, pageable);
+
+            return meetingQueryExecutor.fetchPage(
+                    () -> fetchMeetings(
+                            meetingQueryFactoryUtil.generateMeetingQuery(queryFactory, pageable), keyword, category, tagFilter),
+                    dtos -> {},
+                    pageable,
+                    () -> filter(queryFactory.select(meetingSummary.count()).from(meetingSummary), keyword, category, tagFilter)
+                            .fetchOne());
+        }
+
+        return meetingQueryExecutor.fetchPage(
+                () -> fetchMeetings(
+                        meetingQueryFactoryUtil.generateMeetingQuery(queryFactory, pageable), keyword, category, tagFilter),
+                dtos -> {},
+                pageable,
+                () -> meetingCountQueryRepository.count(category, normalizedTagNames, match));
     }
 
-    private BooleanExpression containsKeyword(String keyword) {
-        if (!StringUtils.hasText(keyword)) return null;
-        return meeting.title.contains(keyword).or(meeting.content.contains(keyword));
+    public CursorSlice<MeetingResponseDto> findAll(String keyword, Category category,
+                                                  List<String> tagNames, TagMatch tagMatch, Cursor cursor, int size) {
+        MeetingTagFilter tagFilter = MeetingTagFilter.of(meetingTagIndex, meetingQueryFactoryUtil.normalizeTagNames(tagNames), tagMatch);
+        if (tagFilter.isUnmatched()) return CursorSlice.of(List.of(), size, dto -> null);
+
+        return meetingQueryFactoryUtil.fetchSummarySlice(
+                filter(meetingQueryFactoryUtil.generateMeetingCursorQuery(queryFactory, cursor, size), keyword, category, tagFilter),
+                projection(), size, meetingSummary.createdAt, MeetingResponseDto::getMeetingId);
     }
 
-    private BooleanExpression eqCategory(Category category) {
-        if (category == null) return null;
-        return meeting.category.eq(category);
+    public MeetingBatchResponseDto findAllByIds(List<Long> meetingIds) {
+        List<Long> distinctIds = meetingIds.stream().distinct().collect(Collectors.toList());
+        if (distinctIds.isEmpty()) return MeetingBatchResponseDto.of(distinctIds, Map.of());
+
+        Map<Long, MeetingResponseDto> meetings = fetchMeetings(
+                meetingQueryFactoryUtil.generateMeetingQuery(queryFactory, distinctIds), null, null, MeetingTagFilter.none())
+                .stream()
+                .collect(Collectors.toMap(MeetingResponseDto::getMeetingId, Function.identity()));
+
+        return MeetingBatchResponseDto.of(distinctIds, meetings);
+    }
+
+    /**
+     * 검색 색인의 전체 결과를 관련도 순으로 페이징하며, 전체 건수도 색인 결과에서 구한다.
+     */
+    private Page<MeetingResponseDto> findAllByRelevance(String keyword, Category category, MeetingTagFilter tagFilter, Pageable pageable) {
+        List<Long> matchedIds = filterRankedIds(meetingSearchIndex.search(keyword), category, tagFilter);
+        if (matchedIds.isEmpty()) return Page.empty(pageable);
+
+        List<Long> pageIds = matchedIds.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+        if (pageIds.isEmpty()) return new PageImpl<>(List.of(), pageable, matchedIds.size());
+
+        List<MeetingResponseDto> dtos = fetchMeetings(
+                meetingQueryFactoryUtil.generateMeetingQuery(queryFactory, pageIds), null, null, MeetingTagFilter.none());
+        dtos.sort(Comparator.comparingInt(dto -> pageIds.indexOf(dto.getMeetingId())));
+
+        return new PageImpl<>(dtos, pageable, matchedIds.size());
+    }
+
+    /**
+     * 색인으로 구한 태그 조건은 메모리에서, 카테고리 조건과 색인 준비 전의 태그 조건은
+     * IN_CLAUSE_LIMIT 개씩 나눠 요약 테이블에서 확인한다.
+     */
+    private List<Long> filterRankedIds(List<Long> rankedIds, Category category, MeetingTagFilter tagFilter) {
+        List<Long> candidateIds = rankedIds;
+        BooleanExpression tagPredicate = null;
+        if (tagFilter.isResolved()) {
+            Set<Long> tagged = new HashSet<>(tagFilter.getMeetingIds());
+            candidateIds = candidateIds.stream().filter(tagged::contains).collect(Collectors.toList());
+        } else {
+            tagPredicate = tagFilter.toPredicate();
+        }
+        if ((category == null && tagPredicate == null) || candidateIds.isEmpty()) return candidateIds;
+
+        Set<Long> matchedIds = new HashSet<>();
+        for (int from = 0; from < candidateIds.size(); from += IN_CLAUSE_LIMIT) {
+            matchedIds.addAll(queryFactory
+                    .select(meetingSummary.meetingId)
+                    .from(meetingSummary)
+                    .where(meetingSummary.meetingId.in(candidateIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, candidateIds.size()))),
+                            eqCategory(category), tagPredicate)
+                    .fetch());
+        }
+        return candidateIds.stream().filter(matchedIds::contains).collect(Collectors.toList());
+    }
+
+    private List<MeetingResponseDto> fetchMeetings(JPAQuery<?> query, String keyword, Category category, MeetingTagFilter tagFilter) {
+        return meetingQueryFactoryUtil.fetchSummaries(filter(query, keyword, category, tagFilter), projection());
     }
 
-    private BooleanExpression eqTagName(String tagName) {
-        if (tagName == null) return null;
-        return tag.name.eq(tagName);
+    private <T> JPAQuery<T> filter(JPAQuery<T> query, String keyword, Category category, MeetingTagFilter tagFilter) {
+        return query.where(meetingQueryFactoryUtil.containsKeyword(meetingSearchIndex, keyword), eqCategory(category), tagFilter.toPredicate());
+    }
+
+    private QMeetingResponseDto projection() {
+        return new QMeetingResponseDto(
+                meetingSummary.meetingId,
+                meetingSummary.category,
+                meetingSummary.hostId,
+                meetingSummary.hostNickname,
+                meetingSummary.hostImageUrl,
+                meetingSummary.hostEmail,
+                meetingSummary.title,
+                meetingSummary.excerpt,
+                meetingSummary.addressInfo,
+                meetingSummary.meetingState,
+                meetingSummary.datePolicy,
+                meetingSummary.startDate,
+                meetingSummary.endDate,
+                meetingSummary.startTime,
+                meetingSummary.endTime,
+                meetingSummary.maxTime,
+                meetingSummary.price,
+                meetingSummary.currentParticipants,
+                meetingSummary.personnel.longValue());
+    }
+
+    private BooleanExpression eqCategory(Category category) {
+        if (category == null) return null;
+        return meetingSummary.category.eq(category);
     }
 
 
@@ -0,0 +1,149 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.RankingWindow;
+import com.example.momobe.meeting.dto.out.MeetingRankDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 랭킹 상위 목록을 프로세스 메모리에 캐시한다. 요청 스레드는 캐시된 목록을 바로 반환하고,
+ * refresh-millis 가 지난 목록은 백그라운드에서 다시 조회해 교체한다(stale-while-revalidate).
+ * 처음 조회하는 랭킹만 요청 스레드에서 조회하며, 같은 랭킹의 동시 요청은 그 결과를 함께 기다린다.
+ * 조회는 맵의 잠금 밖에서 하므로 느린 랭킹 조회가 다른 키의 캐시 접근을 막지 않는다.
+ */
+@Slf4j
+@Repository
+public class MeetingRankCacheRepository {
+    private static final int MAX_ENTRIES = 1000;
+
+    private final MeetingRankQueryRepository meetingRankQueryRepository;
+    private final MeetingTagIndex meetingTagIndex;
+    private final Executor executor;
+    private final long refreshMillis;
+
+    private final ConcurrentMap<String, RankEntry> entries = new ConcurrentHashMap<>();
+
+    public MeetingRankCacheRepository(MeetingRankQueryRepository meetingRankQueryRepository,
+                                      MeetingTagIndex meetingTagIndex,
+                                      @Qualifier("taskExecutor") Executor executor,
+                                      @Value("${meeting.ranking.near-cache.refresh-millis:1000}") long refreshMillis) {
+        this.meetingRankQueryRepository = meetingRankQueryRepository;
+        this.meetingTagIndex = meetingTagIndex;
+        this.executor = executor;
+        this.refreshMillis = refreshMillis;
+    }
+
+    public List<MeetingRankDto> findRanks(RankingWindow window) {
+        return find("window:" + window, true, () -> meetingRankQueryRepository.findRanks(window, 0, 9));
+    }
+
+    public List<MeetingRankDto> findRanks(Category category) {
+        return find("category:" + category, true, () -> meetingRankQueryRepository.findRanks(category, 0, 9));
+    }
+
+    /**
+     * 태그는 요청마다 임의의 값이 올 수 있으므로 태그 색인에 있는 태그만 캐시한다.
+     */
+    public List<MeetingRankDto> findRanksByTag(String tagName) {
+        return find("tag:" + tagName, meetingTagIndex.containsTag(tagName),
+                () -> meetingRankQueryRepository.findRanksByTag(tagName, 0, 9));
+    }
+
+    public void evictAll() {
+        entries.clear();
+    }
+
+    /**
+     * 캐시하지 않는 키이거나 MAX_ENTRIES 를 넘으면 새 키는 캐시하지 않고 바로 조회한다.
+     * 처음 조회에 실패하면 캐시하지 않고 빈 목록을 반환해, 랭킹 저장소 장애가 요청 실패로 번지지 않게 한다.
+     */
+    private List<MeetingRankDto> find(String key, boolean cacheable, Supplier<List<MeetingRankDto>> loader) {
+        RankEntry entry = entries.get(key);
+        if (entry == null) {
+            if (!cacheable || entries.size() >= MAX_ENTRIES) return load(key, loader);
+
+            RankEntry loading = new RankEntry();
+            entry = entries.putIfAbsent(key, loading);
+            if (entry == null) {
+                entry = loading;
+                try {
+                    loading.complete(loader.get());
+                } catch (RuntimeException e) {
+                    entries.remove(key, loading);
+                    loading.ranks.completeExceptionally(e);
+                }
+            }
+        }
+
+        if (!entry.ranks.isDone()) return await(key, entry);
+
+        if (entry.isStale(refreshMillis) && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                RankEntry stale = entry;
+                executor.execute(() -> refresh(key, stale, loader));
+            } catch (RuntimeException e) {
+                entry.refreshing.set(false);
+                log.warn("랭킹 캐시 갱신 작업 등록 실패 : {}", key, e);
+            }
+        }
+        return await(key, entry);
+    }
+
+    private List<MeetingRankDto> load(String key, Supplier<List<MeetingRankDto>> loader) {
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            log.warn("랭킹 조회 실패, 빈 목록 반환 : {}", key, e);
+            return List.of();
+        }
+    }
+
+    private List<MeetingRankDto> await(String key, RankEntry entry) {
+        try {
+            return entry.ranks.join();
+        } catch (CompletionException e) {
+            log.warn("랭킹 조회 실패, 빈 목록 반환 : {}", key, e.getCause());
+            return List.of();
+        }
+    }
+
+    private void refresh(String key, RankEntry entry, Supplier<List<MeetingRankDto>> loader) {
+        try {
+            RankEntry refreshed = new RankEntry();
+            refreshed.complete(loader.get());
+            entries.replace(key, entry, refreshed);
+        } catch (RuntimeException e) {
+            log.warn("랭킹 캐시 갱신 실패, 이전 목록을 계속 사용 : {}", key, e);
+        } finally {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static class RankEntry {
+        private final CompletableFuture<List<MeetingRankDto>> ranks = new CompletableFuture<>();
+        private volatile long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private void complete(List<MeetingRankDto> loaded) {
+            loadedAt = System.currentTimeMillis();
+            ranks.complete(List.copyOf(loaded));
+        }
+
+        private boolean isStale(long refreshMillis) {
+            return System.currentTimeMillis() - loadedAt >= refreshMillis;
+        }
+    }
+}
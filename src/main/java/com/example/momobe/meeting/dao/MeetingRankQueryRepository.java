@@ -0,0 +1,48 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingRankingStore;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.RankingWindow;
+import com.example.momobe.meeting.dto.out.MeetingBatchResponseDto;
+import com.example.momobe.meeting.dto.out.MeetingRankDto;
+import com.example.momobe.meeting.mapper.MeetingRankMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class MeetingRankQueryRepository {
+    private final MeetingRankingStore meetingRankingStore;
+    private final MeetingQueryRepository meetingQueryRepository;
+    private final MeetingRankMapper meetingRankMapper;
+
+    public List<MeetingRankDto> findRanks(RankingWindow window, int startIdx, int endIdx) {
+        return hydrate(meetingRankingStore.getRankedIds(window, startIdx, endIdx));
+    }
+
+    public List<MeetingRankDto> findRanks(Category category, int startIdx, int endIdx) {
+        return hydrate(meetingRankingStore.getRankedIds(category, startIdx, endIdx));
+    }
+
+    public List<MeetingRankDto> findRanksByTag(String tagName, int startIdx, int endIdx) {
+        return hydrate(meetingRankingStore.getRankedIdsByTag(tagName, startIdx, endIdx));
+    }
+
+    /**
+     * 랭킹에는 모임 id 만 있으므로 상위 모임의 카드 정보는 모임 요약에서 한 번에 조회한다.
+     * 삭제되어 조회되지 않는 모임은 랭킹에서도 제거한다.
+     */
+    private List<MeetingRankDto> hydrate(List<Long> meetingIds) {
+        if (meetingIds.isEmpty()) return List.of();
+
+        MeetingBatchResponseDto meetings = meetingQueryRepository.findAllByIds(meetingIds);
+        meetingRankingStore.remove(meetings.getMissingIds());
+
+        return meetings.getContent().stream()
+                .map(meetingRankMapper::of)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.meeting.domain.MeetingSummary;
+import com.example.momobe.meeting.domain.enums.DatePolicy;
+import com.example.momobe.meeting.dto.out.MeetingInfoDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.momobe.meeting.domain.QMeeting.meeting;
+import static com.example.momobe.meeting.domain.QMeetingSummary.meetingSummary;
+import static com.example.momobe.tag.domain.QTag.tag;
+import static com.example.momobe.user.domain.QAvatar.avatar;
+import static com.example.momobe.user.domain.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeetingSummarySourceQueryRepository {
+    private final JPAQueryFactory queryFactory;
+    private final MeetingInfoLoader meetingInfoLoader;
+
+    public List<Long> findMeetingIds(Long lastMeetingId, int size) {
+        return queryFactory
+                .select(meeting.id)
+                .from(meeting)
+                .where(meeting.id.gt(lastMeetingId))
+                .orderBy(meeting.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<Long> findMeetingIdsWithoutSummary(Long lastMeetingId, int size) {
+        return queryFactory
+                .select(meeting.id)
+                .from(meeting)
+                .where(meeting.id.gt(lastMeetingId),
+                        meeting.id.notIn(JPAExpressions.select(meetingSummary.meetingId).from(meetingSummary)))
+                .orderBy(meeting.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<MeetingSummary> generateSummaries(List<Long> meetingIds) {
+        if (meetingIds.isEmpty()) return List.of();
+
+        List<Meeting> meetings = queryFactory
+                .selectFrom(meeting)
+                .where(meeting.id.in(meetingIds))
+                .fetch();
+
+        Map<Long, Tuple> hosts = findHosts(meetings);
+        Map<Long, String> tagNames = findTagNames(meetings);
+        Map<Long, MeetingInfoDto> meetingInfos = meetingInfoLoader.loadAddressesAndDateTimes(queryFactory, meetingIds);
+
+        return meetings.stream()
+                .map(m -> generateSummary(m, hosts.get(m.getHostId()), tagNames, meetingInfos.get(m.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private MeetingSummary generateSummary(Meeting m, Tuple host, Map<Long, String> tagNames, MeetingInfoDto meetingInfo) {
+        Set<LocalDateTime> dateTimes = meetingInfo.getDateTimes();
+        DatePolicy datePolicy = m.getDateTimeInfo().getDatePolicy();
+
+        return MeetingSummary.builder()
+                .meetingId(m.getId())
+                .category(m.getCategory())
+                .hostId(m.getHostId())
+                .hostNickname(host == null ? null : host.get(user.nickname.nickname))
+                .hostImageUrl(host == null ? null : host.get(avatar.remotePath))
+                .hostEmail(host == null ? null : host.get(user.email.address))
+                .title(m.getTitle())
+                .content(m.getContent())
+                .addressInfo(m.getAddress() == null ? null : m.getAddress().getAddressInfo())
+                .addresses(new ArrayList<>(meetingInfo.getAddresses()))
+                .tagNames(m.getTagIds() == null ? new HashSet<>() : m.getTagIds().stream()
+                        .map(tagNames::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .meetingState(m.getMeetingState())
+                .datePolicy(datePolicy)
+                .startDate(m.getDateTimeInfo().getStartDate())
+                .endDate(m.getDateTimeInfo().getEndDate())
+                .startTime(m.getDateTimeInfo().getStartTime())
+                .endTime(m.getDateTimeInfo().getEndTime())
+                .maxTime(m.getDateTimeInfo().getMaxTime())
+                .dayWeeks(datePolicy == DatePolicy.PERIOD ? dayWeeksOf(dateTimes) : null)
+                .dates(datePolicy == DatePolicy.FREE ? datesOf(dateTimes) : null)
+                .price(m.getPrice())
+                .personnel(m.getPersonnel())
+                .currentParticipants(m.getCurrentParticipants())
+                .createdAt(m.getCreatedAt())
+                .build();
+    }
+
+    private List<Integer> dayWeeksOf(Set<LocalDateTime> dateTimes) {
+        return dateTimes.stream()
+                .map(dateTime -> dateTime.getDayOfWeek().getValue())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private List<LocalDate> datesOf(Set<LocalDateTime> dateTimes) {
+        return dateTimes.stream()
+                .map(LocalDateTime::toLocalDate)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Tuple> findHosts(List<Meeting> meetings) {
+        Set<Long> hostIds = meetings.stream().map(Meeting::getHostId).collect(Collectors.toSet());
+
+        return queryFactory
+                .select(user.id, user.nickname.nickname, avatar.remotePath, user.email.address)
+                .from(user)
+                .leftJoin(user.avatar, avatar)
+                .where(user.id.in(hostIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(row -> row.get(user.id), Function.identity()));
+    }
+
+    private Map<Long, String> findTagNames(List<Meeting> meetings) {
+        Set<Long> tagIds = meetings.stream()
+                .filter(m -> m.getTagIds() != null)
+                .flatMap(m -> m.getTagIds().stream())
+                .collect(Collectors.toSet());
+        if (tagIds.isEmpty()) return Map.of();
+
+        return queryFactory
+                .select(tag.id, tag.name)
+                .from(tag)
+                .where(tag.id.in(tagIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(row -> row.get(tag.id), row -> row.get(tag.name)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.QMeetingSummary;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import lombok.Getter;
+
+import java.util.List;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.IN_CLAUSE_LIMIT;
+import static com.example.momobe.meeting.domain.QMeetingSummary.meetingSummary;
+
+/**
+ * 목록 조회의 태그 조건. 태그 색인이 준비되어 있으면 색인에서 모임 id 를 구하고,
+ * 색인이 준비되기 전이거나 결과가 IN 절에 넣기에 많으면 요약 테이블의 태그(meeting_summary_tag)로 거른다.
+ */
+@Getter
+public class MeetingTagFilter {
+    static final StringPath TAG_NAME = Expressions.stringPath("tagName");
+    private static final MeetingTagFilter NONE = new MeetingTagFilter(List.of(), TagMatch.AND, null);
+
+    private final List<String> tagNames;
+    private final TagMatch tagMatch;
+    // 태그 색인에서 구한 모임 id (최신 id 순), 색인을 사용하지 않으면 null
+    private final List<Long> meetingIds;
+
+    private MeetingTagFilter(List<String> tagNames, TagMatch tagMatch, List<Long> meetingIds) {
+        this.tagNames = tagNames;
+        this.tagMatch = tagMatch;
+        this.meetingIds = meetingIds;
+    }
+
+    public static MeetingTagFilter none() {
+        return NONE;
+    }
+
+    /**
+     * @param tagNames 정규화된 태그 이름
+     */
+    public static MeetingTagFilter of(MeetingTagIndex meetingTagIndex, List<String> tagNames, TagMatch tagMatch) {
+        if (tagNames.isEmpty() || !meetingTagIndex.isReady()) return of(tagNames, tagMatch);
+        TagMatch match = tagMatch == null ? TagMatch.AND : tagMatch;
+        return new MeetingTagFilter(tagNames, match, meetingTagIndex.findMeetingIds(tagNames, match));
+    }
+
+    /**
+     * 태그 색인을 사용하지 않고 요약 테이블의 태그로만 거른다.
+     * @param tagNames 정규화된 태그 이름
+     */
+    public static MeetingTagFilter of(List<String> tagNames, TagMatch tagMatch) {
+        if (tagNames.isEmpty()) return NONE;
+        return new MeetingTagFilter(tagNames, tagMatch == null ? TagMatch.AND : tagMatch, null);
+    }
+
+    public boolean isPresent() {
+        return !tagNames.isEmpty();
+    }
+
+    public boolean isResolved() {
+        return meetingIds != null;
+    }
+
+    /**
+     * 색인 결과로 조건에 맞는 모임이 없음이 확정된 경우
+     */
+    public boolean isUnmatched() {
+        return isResolved() && meetingIds.isEmpty();
+    }
+
+    public BooleanExpression toPredicate() {
+        if (!isPresent()) return null;
+        if (isResolved() && meetingIds.size() <= IN_CLAUSE_LIMIT) return meetingSummary.meetingId.in(meetingIds);
+
+        QMeetingSummary tagged = new QMeetingSummary("tagged");
+        JPQLQuery<Long> taggedIds = JPAExpressions
+                .select(tagged.meetingId)
+                .from(tagged)
+                .innerJoin(tagged.tagNames, TAG_NAME)
+                .where(TAG_NAME.in(tagNames));
+        if (tagMatch == TagMatch.AND && tagNames.size() > 1) {
+            taggedIds.groupBy(tagged.meetingId)
+                    .having(TAG_NAME.countDistinct().eq((long) tagNames.size()));
+        }
+        return meetingSummary.meetingId.in(taggedIds);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.dto.out.ResponseMeetingDatesDto;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * slot_occupancy.occupied 는 신청 확정 대기(PAYMENT_SUCCESS), 참여 확정(ACCEPT) 상태의 예약 중
+ * 해당 일정을 포함하는 예약 수이다. 증감 반영과 보정 작업은 같은 상태 목록(OCCUPYING_STATES)을 사용해야 한다.
+ */
+@Mapper
+public interface SlotOccupancyDao {
+    // PAYMENT_PROGRESS 로 바뀌는 경로는 없으며, 결제 완료 시점에만 더하므로 집계에서도 제외한다
+    String OCCUPYING_STATES = "('PAYMENT_SUCCESS', 'ACCEPT')";
+
+    @Select("SELECT so.slot_start AS dateTime, date_format(so.slot_start, '%Y-%m-%d') AS date, date_format(so.slot_start, '%H:%i:%s') AS time,\n" +
+            "       so.capacity AS personnel, m.max_time AS maxTime, m.price, m.date_policy AS datePolicy,\n" +
+            "       so.occupied AS currentStaff, m.category,\n" +
+            "       if (so.occupied >= so.capacity, 'false', 'true') AS availability\n" +
+            "FROM slot_occupancy so\n" +
+            "INNER JOIN meeting m ON so.meeting_id = m.meeting_id\n" +
+            "WHERE so.meeting_id = #{meetingId} AND so.slot_start >= #{from} AND so.slot_start < #{to}\n" +
+            "ORDER BY so.slot_start")
+    List<ResponseMeetingDatesDto> findSchedule(@Param("meetingId") Long meetingId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+
+    @Insert({
+            "<script>",
+            "INSERT INTO slot_occupancy (meeting_id, slot_start, occupied, capacity) VALUES",
+            "<foreach collection='slotStarts' item='slotStart' separator=','>",
+            "(#{meetingId}, #{slotStart}, 0, #{capacity})",
+            "</foreach>",
+            "</script>"
+    })
+    void insertSlots(@Param("meetingId") Long meetingId,
+                     @Param("slotStarts") List<LocalDateTime> slotStarts,
+                     @Param("capacity") Integer capacity);
+
+    @Update("UPDATE slot_occupancy SET capacity = #{capacity} WHERE meeting_id = #{meetingId}")
+    void updateCapacity(@Param("meetingId") Long meetingId, @Param("capacity") Integer capacity);
+
+    @Update("UPDATE slot_occupancy\n" +
+            "SET occupied = GREATEST(occupied + #{delta}, 0)\n" +
+            "WHERE meeting_id = #{meetingId} AND slot_start >= #{start} AND slot_start < #{end}")
+    void addOccupied(@Param("meetingId") Long meetingId,
+                     @Param("start") LocalDateTime start,
+                     @Param("end") LocalDateTime end,
+                     @Param("delta") int delta);
+
+    /**
+     * 예약 상태를 바꾸기 전에 호출해야 하며, 이미 일정을 차지하고 있던 예약은 다시 더하지 않는다.
+     */
+    @Update("UPDATE slot_occupancy so\n" +
+            "INNER JOIN reservation r ON so.meeting_id = r.meeting_id\n" +
+            "                        AND so.slot_start >= r.start_date_time\n" +
+            "                        AND so.slot_start < r.end_date_time\n" +
+            "SET so.occupied = so.occupied + 1\n" +
+            "WHERE r.reservation_id = #{reservationId}\n" +
+            "  AND r.reservation_state NOT IN " + OCCUPYING_STATES)
+    void occupyByReservationId(@Param("reservationId") Long reservationId);
+
+    @Insert("INSERT INTO slot_occupancy (meeting_id, slot_start, occupied, capacity)\n" +
+            "SELECT dt.meeting_id, dt.date_time, 0, m.personnel\n" +
+            "FROM date_time dt\n" +
+            "INNER JOIN meeting m ON dt.meeting_id = m.meeting_id\n" +
+            "LEFT JOIN slot_occupancy so ON so.meeting_id = dt.meeting_id AND so.slot_start = dt.date_time\n" +
+            "WHERE so.slot_occupancy_id IS NULL")
+    int insertMissingSlots();
+
+    @Update("UPDATE slot_occupancy so\n" +
+            "INNER JOIN meeting m ON so.meeting_id = m.meeting_id\n" +
+            "SET so.capacity = m.personnel,\n" +
+            "    so.occupied = (SELECT count(r.reservation_id)\n" +
+            "                   FROM reservation r\n" +
+            "                   WHERE r.meeting_id = so.meeting_id\n" +
+            "                     AND r.reservation_state IN " + OCCUPYING_STATES + "\n" +
+            "                     AND r.start_date_time <= so.slot_start\n" +
+            "                     AND r.end_date_time > so.slot_start)")
+    void reconcileOccupied();
+}
@@ -14,6 +14,7 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_date_time_meeting_id_date_time", columnList = "meeting_id, date_time"))
 public class DateTime extends BaseTime {
     @Id
     @Column(name = "date_time_id")
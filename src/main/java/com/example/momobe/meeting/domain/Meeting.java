@@ -7,6 +7,7 @@ import com.example.momobe.meeting.domain.enums.MeetingState;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -22,6 +23,10 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_meeting_created_at", columnList = "created_at, meeting_id"),
+        @Index(name = "idx_meeting_host_id_created_at", columnList = "host_id, created_at, meeting_id")
+})
 public class Meeting extends BaseTime {
     @Id
     @Column(name = "meeting_id")
@@ -63,6 +68,10 @@ public class Meeting extends BaseTime {
     @Embedded
     private Address address;
 
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long currentParticipants = 0L;
+
     @Builder
     public Meeting(String title, String content, Long hostId, Category category, List<Long> tagIds,
                    Integer personnel, MeetingState meetingState, DateTimeInfo dateTimeInfo,
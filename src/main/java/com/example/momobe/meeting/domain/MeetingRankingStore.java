@@ -1,9 +1,17 @@
 package com.example.momobe.meeting.domain;
 
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.RankingWindow;
+
+import java.util.Collection;
 import java.util.List;
 
-public interface MeetingRankingStore <T> {
-    List<T> getRanks(String key, int startIdx, int endIdx, Class<T> type);
-    void updateRank(String key, T rankDto);
+public interface MeetingRankingStore {
+    List<Long> getRankedIds(RankingWindow window, int startIdx, int endIdx);
+    List<Long> getRankedIds(Category category, int startIdx, int endIdx);
+    List<Long> getRankedIdsByTag(String tagName, int startIdx, int endIdx);
+    void increaseScore(Long meetingId, String viewer, Category category, Collection<String> tagNames);
+    void remove(List<Long> meetingIds);
     void deleteAll();
+    void flush();
 }
@@ -0,0 +1,13 @@
+package com.example.momobe.meeting.domain;
+
+import com.example.momobe.meeting.domain.enums.MeetingState;
+
+import java.util.List;
+
+public interface MeetingSearchIndex {
+    void index(Long meetingId, String title, String content, MeetingState meetingState);
+    void remove(Long meetingId);
+    List<Long> search(String keyword);
+    boolean isReady();
+    void markReady();
+}
@@ -0,0 +1,152 @@
+package com.example.momobe.meeting.domain;
+
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.DatePolicy;
+import com.example.momobe.meeting.domain.enums.MeetingState;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static javax.persistence.EnumType.STRING;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 목록 조회용 읽기 모델. Meeting / Reservation 변경 이벤트로 갱신되며 목록은 이 테이블만 조회한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_meeting_summary_created_at", columnList = "created_at, meeting_id"),
+        @Index(name = "idx_meeting_summary_host_id_created_at", columnList = "host_id, created_at, meeting_id"),
+        @Index(name = "idx_meeting_summary_category_created_at", columnList = "category, created_at, meeting_id")
+})
+public class MeetingSummary {
+    public static final int EXCERPT_LENGTH = 100;
+    private static final String DELIMITER = ",";
+
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private Category category;
+
+    @Column(nullable = false)
+    private Long hostId;
+    private String hostNickname;
+    private String hostImageUrl;
+    private String hostEmail;
+
+    @Column(nullable = false)
+    private String title;
+    @Column(nullable = false, length = EXCERPT_LENGTH + 3)
+    private String excerpt;
+
+    private String addressInfo;
+    private String addresses;
+
+    @ElementCollection
+    @CollectionTable(name = "meeting_summary_tag",
+            joinColumns = @JoinColumn(name = "meeting_id"),
+            indexes = @Index(name = "idx_meeting_summary_tag_name", columnList = "tag_name, meeting_id"))
+    @Column(name = "tag_name", nullable = false)
+    private Set<String> tagNames;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private MeetingState meetingState;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private DatePolicy datePolicy;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer maxTime;
+    private String dayWeeks;
+    @Lob
+    private String dates;
+
+    private Long price;
+    private Integer personnel;
+    private Long currentParticipants;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Builder
+    public MeetingSummary(Long meetingId, Category category, Long hostId, String hostNickname, String hostImageUrl,
+                          String hostEmail, String title, String content, String addressInfo, List<String> addresses,
+                          Set<String> tagNames, MeetingState meetingState, DatePolicy datePolicy,
+                          LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime,
+                          Integer maxTime, List<Integer> dayWeeks, List<LocalDate> dates, Long price,
+                          Integer personnel, Long currentParticipants, LocalDateTime createdAt) {
+        this.meetingId = meetingId;
+        this.category = category;
+        this.hostId = hostId;
+        this.hostNickname = hostNickname;
+        this.hostImageUrl = hostImageUrl;
+        this.hostEmail = hostEmail;
+        this.title = title;
+        this.excerpt = toExcerpt(content);
+        this.addressInfo = addressInfo;
+        this.addresses = join(addresses);
+        this.tagNames = tagNames;
+        this.meetingState = meetingState;
+        this.datePolicy = datePolicy;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.maxTime = maxTime;
+        this.dayWeeks = join(dayWeeks);
+        this.dates = join(dates);
+        this.price = price;
+        this.personnel = personnel;
+        this.currentParticipants = currentParticipants;
+        this.createdAt = createdAt;
+    }
+
+    public static List<String> splitAddresses(String addresses) {
+        return split(addresses).collect(Collectors.toList());
+    }
+
+    public static List<Integer> splitDayWeeks(String dayWeeks) {
+        if (dayWeeks == null) return null;
+        return split(dayWeeks).map(Integer::valueOf).collect(Collectors.toList());
+    }
+
+    public static List<LocalDate> splitDates(String dates) {
+        if (dates == null) return null;
+        return split(dates).map(LocalDate::parse).collect(Collectors.toList());
+    }
+
+    private static String toExcerpt(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) return content;
+        return content.substring(0, EXCERPT_LENGTH) + "...";
+    }
+
+    private static String join(Collection<?> values) {
+        if (values == null) return null;
+        return values.stream().map(String::valueOf).collect(Collectors.joining(DELIMITER));
+    }
+
+    private static Stream<String> split(String values) {
+        if (values == null || values.isEmpty()) return Stream.empty();
+        return Arrays.stream(values.split(DELIMITER));
+    }
+}
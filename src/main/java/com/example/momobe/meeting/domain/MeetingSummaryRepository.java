@@ -0,0 +1,6 @@
+package com.example.momobe.meeting.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MeetingSummaryRepository extends JpaRepository<MeetingSummary, Long> {
+}
@@ -0,0 +1,19 @@
+package com.example.momobe.meeting.domain;
+
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.tag.domain.Tag;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface MeetingTagIndex {
+    void index(Long meetingId, List<Tag> tags);
+    void remove(Long meetingId);
+    List<Long> findMeetingIds(List<String> tagNames, TagMatch tagMatch);
+    Map<String, Long> countTags(Collection<Long> meetingIds);
+    List<String> findTagNames(Long meetingId);
+    boolean containsTag(String tagName);
+    boolean isReady();
+    void markReady();
+}
@@ -0,0 +1,22 @@
+package com.example.momobe.meeting.domain;
+
+public interface MeetingVersionStore {
+    // 버전 키가 없는 모임(존재하지 않는 모임 포함)의 버전, 이 버전으로는 ETag 를 발급하지 않는다
+    long NO_VERSION = 0L;
+
+    /**
+     * 키를 만들지 않으며, 버전이 없으면 NO_VERSION 을 반환한다.
+     */
+    long getVersion(Long meetingId);
+
+    /**
+     * 존재가 확인된 모임에만 호출한다. 버전이 없으면 현재 시각(ms)으로 만든다.
+     */
+    long initVersion(Long meetingId);
+
+    long increase(Long meetingId);
+
+    default String generateETag(Long meetingId, long version) {
+        return "W/\"" + meetingId + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.momobe.meeting.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static javax.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 달력 조회용 읽기 모델. 일정(date_time) 하나당 한 행이며, 예약 상태가 바뀌는 트랜잭션 안에서 SlotOccupancyDao 로 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_slot_occupancy_meeting_id_slot_start", columnNames = {"meeting_id", "slot_start"}))
+public class SlotOccupancy {
+    @Id
+    @Column(name = "slot_occupancy_id")
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long meetingId;
+
+    @Column(nullable = false)
+    private LocalDateTime slotStart;
+
+    @Column(nullable = false)
+    private Integer occupied;
+
+    @Column(nullable = false)
+    private Integer capacity;
+}
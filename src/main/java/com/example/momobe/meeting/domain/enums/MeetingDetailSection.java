@@ -0,0 +1,24 @@
+package com.example.momobe.meeting.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 모임 상세에서 선택적으로 조회하는 항목. 모임 기본 정보(제목, 가격, 주최자, 일정)는 항상 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MeetingDetailSection {
+    ADDRESSES("주소"), TAGS("태그"), DATES("날짜/요일"), QUESTIONS("질문/답변");
+
+    private final String description;
+
+    public static Set<MeetingDetailSection> of(Collection<MeetingDetailSection> sections) {
+        if (sections == null || sections.isEmpty()) return EnumSet.allOf(MeetingDetailSection.class);
+        return EnumSet.copyOf(sections);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.momobe.meeting.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 랭킹 집계 기간. ALL 은 누적 조회수, 나머지는 최근 hours 시간의 시간별 조회수를 합산한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RankingWindow {
+    ALL("전체", 0), HOUR("최근 1시간", 1), DAY("최근 24시간", 24), WEEK("최근 7일", 24 * 7);
+
+    private final String description;
+    private final int hours;
+
+    public static RankingWindow of(RankingWindow window) {
+        return window == null ? ALL : window;
+    }
+}
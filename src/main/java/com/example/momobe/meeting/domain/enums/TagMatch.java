@@ -0,0 +1,12 @@
+package com.example.momobe.meeting.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TagMatch {
+    AND("모든 태그 포함"), OR("하나 이상의 태그 포함");
+
+    private final String description;
+}
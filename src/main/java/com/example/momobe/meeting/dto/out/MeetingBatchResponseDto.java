@@ -0,0 +1,31 @@
+package com.example.momobe.meeting.dto.out;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor
+public class MeetingBatchResponseDto {
+    private final List<MeetingResponseDto> content;
+    private final List<Long> missingIds;
+
+    /**
+     * 요청한 id 순서대로 content 를 구성하고, 조회되지 않은 id 는 missingIds 로 돌려준다.
+     */
+    public static MeetingBatchResponseDto of(List<Long> meetingIds, Map<Long, ? extends MeetingResponseDto> meetings) {
+        List<MeetingResponseDto> content = meetingIds.stream()
+                .map(meetings::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        List<Long> missingIds = meetingIds.stream()
+                .filter(meetingId -> !meetings.containsKey(meetingId))
+                .collect(Collectors.toList());
+
+        return new MeetingBatchResponseDto(content, missingIds);
+    }
+}
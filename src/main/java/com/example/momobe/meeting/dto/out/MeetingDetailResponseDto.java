@@ -4,6 +4,7 @@ import com.example.momobe.meeting.domain.enums.Category;
 import com.example.momobe.meeting.domain.enums.DatePolicy;
 import com.example.momobe.meeting.domain.enums.MeetingState;
 import com.example.momobe.question.dto.out.ResponseQuestionDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
@@ -12,11 +13,19 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
 @Getter
 public class MeetingDetailResponseDto extends MeetingResponseDto {
+    private static final long serialVersionUID = 1L;
+
     private final Integer personnel;
+    // include 로 선택하지 않은 항목은 null 이며 응답에서 제외한다.
+    @JsonInclude(NON_NULL)
     private final Set<Long> addressIds;
+    @JsonInclude(NON_NULL)
     private final List<String> tags;
+    @JsonInclude(NON_NULL)
     private List<ResponseQuestionDto> questions;
 
     @QueryProjection
@@ -24,17 +33,17 @@ public class MeetingDetailResponseDto extends MeetingResponseDto {
                                     Set<Long> addressIds, Set<String> addresses, Set<String> tags, List<LocalDateTime> dateTimes, Long currentParticipants, Long reservationCapacity) {
         super(meetingId, category, hostId, hostNickname, hostImageUrl, hostEmail, title, content, addressInfo, meetingState, datePolicy, startDate, endDate, startTime, endTime, maxTime, price, currentParticipants, reservationCapacity);
 
-        List<Integer> dayWeeks = new ArrayList<>();
-        List<LocalDate> dates = new ArrayList<>();
+        List<Integer> dayWeeks = dateTimes == null ? null : new ArrayList<>();
+        List<LocalDate> dates = dateTimes == null ? null : new ArrayList<>();
 
-        if (datePolicy == DatePolicy.FREE) {
+        if (dateTimes != null && datePolicy == DatePolicy.FREE) {
             LinkedHashSet<LocalDate> set = new LinkedHashSet<>();
             dateTimes.forEach(dateTime -> {
                 if (dateTime != null)
                     set.add(dateTime.toLocalDate());
             });
             dates = new ArrayList<>(set);
-        } else if (datePolicy == DatePolicy.PERIOD) {
+        } else if (dateTimes != null && datePolicy == DatePolicy.PERIOD) {
             TreeSet<Integer> set = new TreeSet<>();
             dateTimes.forEach(dateTime -> {
                 if (dateTime != null)
@@ -45,8 +54,8 @@ public class MeetingDetailResponseDto extends MeetingResponseDto {
 
         this.personnel = personnel;
         this.addressIds = addressIds;
-        this.tags = new ArrayList<>(tags);
-        this.init(new ArrayList<>(addresses), dayWeeks, dates);
+        this.tags = tags == null ? null : new ArrayList<>(tags);
+        this.init(addresses == null ? null : new ArrayList<>(addresses), dayWeeks, dates);
     }
 
     public void init(List<ResponseQuestionDto> questions) {
@@ -0,0 +1,53 @@
+package com.example.momobe.meeting.dto.out;
+
+import com.example.momobe.meeting.domain.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static lombok.AccessLevel.PROTECTED;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = PROTECTED)
+public class MeetingFacetResponseDto {
+    private Long totalElements;
+    private List<CategoryFacetDto> categories;
+    private List<TagFacetDto> tags;
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = PROTECTED)
+    public static class CategoryFacetDto {
+        private Category category;
+        private String description;
+        private Long count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = PROTECTED)
+    public static class TagFacetDto {
+        private String name;
+        private Long count;
+    }
+
+    public static MeetingFacetResponseDto empty() {
+        return new MeetingFacetResponseDto(0L, List.of(), List.of());
+    }
+
+    public static MeetingFacetResponseDto of(Map<Category, Long> categoryCounts, Map<String, Long> tagCounts) {
+        return new MeetingFacetResponseDto(
+                categoryCounts.values().stream().mapToLong(Long::longValue).sum(),
+                categoryCounts.entrySet().stream()
+                        .map(entry -> new CategoryFacetDto(entry.getKey(), entry.getKey().getDescription(), entry.getValue()))
+                        .collect(Collectors.toList()),
+                tagCounts.entrySet().stream()
+                        .map(entry -> new TagFacetDto(entry.getKey(), entry.getValue()))
+                        .collect(Collectors.toList()));
+    }
+}
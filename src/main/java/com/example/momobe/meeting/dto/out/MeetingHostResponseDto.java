@@ -26,6 +26,10 @@ public class MeetingHostResponseDto extends MeetingResponseDto {
         this.applications = applications;
     }
 
+    public void initApplications(ApplicationDto applications) {
+        this.applications = applications;
+    }
+
     @Getter
     @AllArgsConstructor
     public static class ApplicationDto {
@@ -0,0 +1,32 @@
+package com.example.momobe.meeting.dto.out;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 페이지 캐시에 저장하는 값. Page 구현체는 직렬화할 수 없으므로 내용과 전체 건수만 보관한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeetingPageDto implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<MeetingResponseDto> content;
+    private final long totalElements;
+
+    public static MeetingPageDto of(Page<MeetingResponseDto> page) {
+        return new MeetingPageDto(new ArrayList<>(page.getContent()), page.getTotalElements());
+    }
+
+    public Page<MeetingResponseDto> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
@@ -3,21 +3,26 @@ package com.example.momobe.meeting.dto.out;
 import com.example.momobe.meeting.domain.enums.Category;
 import com.example.momobe.meeting.domain.enums.DatePolicy;
 import com.example.momobe.meeting.domain.enums.MeetingState;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.*;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static lombok.AccessLevel.*;
 
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = PROTECTED)
-public class MeetingResponseDto {
+public class MeetingResponseDto implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Long meetingId;
     private String category;
     private MeetingUserResponseWithEmailDto host;
@@ -32,21 +37,28 @@ public class MeetingResponseDto {
 
     @Getter
     @RequiredArgsConstructor
-    public static class AddressDto {
+    public static class AddressDto implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @JsonInclude(NON_NULL)
         private List<String> addresses;
         private final String addressInfo;
     }
 
     @Getter
     @RequiredArgsConstructor
-    public static class DateTimeDto {
+    public static class DateTimeDto implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private final DatePolicy datePolicy;
         private final LocalDate startDate;
         private final LocalDate endDate;
         private final LocalTime startTime;
         private final LocalTime endTime;
         private final Integer maxTime;
+        @JsonInclude(NON_NULL)
         private List<Integer> dayWeeks;
+        @JsonInclude(NON_NULL)
         private List<LocalDate> dates;
     }
 
@@ -4,10 +4,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.io.Serializable;
+
 @Getter
 @Builder
 @RequiredArgsConstructor
-public class MeetingUserResponseDto {
+public class MeetingUserResponseDto implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final Long userId;
     private final String nickname;
     private final String imageUrl;
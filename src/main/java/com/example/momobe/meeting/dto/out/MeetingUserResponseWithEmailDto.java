@@ -5,6 +5,8 @@ import lombok.Getter;
 
 @Getter
 public class MeetingUserResponseWithEmailDto extends MeetingUserResponseDto {
+    private static final long serialVersionUID = 1L;
+
     private final String email;
 
     public MeetingUserResponseWithEmailDto(Long userId, String nickname, String imageUrl, String email) {
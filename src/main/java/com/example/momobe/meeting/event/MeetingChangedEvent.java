@@ -0,0 +1,26 @@
+package com.example.momobe.meeting.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class MeetingChangedEvent {
+    private final Long meetingId;
+    private final ChangeType changeType;
+
+    public boolean isContentChanged() {
+        return changeType != ChangeType.PARTICIPANTS_CHANGED && changeType != ChangeType.QNA_CHANGED;
+    }
+
+    // 질문/답변은 상세 조회에만 포함되므로 목록용 요약과 캐시는 갱신하지 않는다.
+    public boolean isSummaryChanged() {
+        return changeType != ChangeType.QNA_CHANGED;
+    }
+
+    public enum ChangeType {
+        REGISTERED, UPDATED, CLOSED, PARTICIPANTS_CHANGED, QNA_CHANGED
+    }
+}
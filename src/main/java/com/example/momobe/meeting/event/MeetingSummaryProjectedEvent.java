@@ -0,0 +1,17 @@
+package com.example.momobe.meeting.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 변경이 meeting_summary 에 반영(커밋)된 뒤 발행된다. 요약 테이블을 읽는 캐시는 이 이벤트로 비운다.
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingSummaryProjectedEvent {
+    private final MeetingChangedEvent changedEvent;
+
+    public boolean isContentChanged() {
+        return changedEvent.isContentChanged();
+    }
+}
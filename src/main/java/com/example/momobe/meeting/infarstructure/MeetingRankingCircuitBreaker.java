@@ -0,0 +1,66 @@
+package com.example.momobe.meeting.infarstructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 랭킹 저장소(Redis) 호출의 연속 실패 횟수를 세어 failure-threshold 번 실패하면 open-millis 동안 호출을 막는다.
+ * 막는 시간이 지나면 한 번만 호출을 허용해(half-open) 성공하면 다시 열고, 실패하면 다시 막는다.
+ */
+@Slf4j
+@Component
+public class MeetingRankingCircuitBreaker {
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private int failures;
+    private long openedAt;
+    private boolean open;
+    private boolean trial;
+
+    @Autowired
+    public MeetingRankingCircuitBreaker(@Value("${meeting.ranking.circuit.failure-threshold:3}") int failureThreshold,
+                                        @Value("${meeting.ranking.circuit.open-millis:10000}") long openMillis) {
+        this(failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    MeetingRankingCircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    public synchronized boolean allowRequest() {
+        if (!open) return true;
+        if (trial || clock.getAsLong() - openedAt < openMillis) return false;
+
+        trial = true;
+        return true;
+    }
+
+    public synchronized void recordSuccess() {
+        if (open) log.info("랭킹 저장소 복구, 차단 해제");
+        failures = 0;
+        open = false;
+        trial = false;
+    }
+
+    public synchronized void recordFailure() {
+        failures++;
+        if (trial || failures >= failureThreshold) {
+            if (!open) log.warn("랭킹 저장소 호출 {}회 연속 실패, {}ms 동안 차단", failures, openMillis);
+            open = true;
+            trial = false;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return open;
+    }
+}
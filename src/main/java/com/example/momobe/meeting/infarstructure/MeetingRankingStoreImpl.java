@@ -1,33 +1,66 @@
 package com.example.momobe.meeting.infarstructure;
 
-import com.example.momobe.meeting.constants.MeetingConstants;
 import com.example.momobe.meeting.domain.MeetingRankingStore;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.RankingWindow;
 import com.example.momobe.user.infrastructure.UnableToProcessException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.CollectionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands.Aggregate;
+import org.springframework.data.redis.connection.RedisZSetCommands.Weights;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.example.momobe.common.exception.enums.ErrorCode.UNABLE_TO_PROCESS;
 import static com.example.momobe.meeting.constants.MeetingConstants.*;
 
+/**
+ * 조회수 랭킹을 모임 id 를 member 로 하는 ZSET 으로 관리한다.
+ * 카드 정보(제목, 이미지 등)는 저장하지 않으므로 모임이 수정되어도 점수가 나뉘지 않는다.
+ * 조회수는 모임별로 메모리에 모아 두었다가 flush() 에서 ZINCRBY 를 파이프라인으로 한 번에 반영한다.
+ * 최근 기간 랭킹을 위해 누적 ZSET 과 함께 시간별 ZSET 에도 반영하며, 시간별 ZSET 은 최대 기간이 지나면 만료된다.
+ * 카테고리 / 태그별 랭킹도 같은 파이프라인에서 함께 반영한다.
+ * 같은 조회자의 반복 조회는 모임 / 시간별 HyperLogLog 로 걸러 시간당 한 번만 반영한다.
+ * Redis 호출은 MeetingRankingCircuitBreaker 를 거치며, 차단 중에는 조회수를 메모리에만 쌓았다가 복구 후 한 번에 반영한다.
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
-public class MeetingRankingStoreImpl<T> implements MeetingRankingStore<T> {
+public class MeetingRankingStoreImpl implements MeetingRankingStore {
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final MeetingRankingCircuitBreaker circuitBreaker;
+
+    private static final Duration BUCKET_TTL = Duration.ofHours(RankingWindow.WEEK.getHours() + 1L);
+    private static final String TAG_KEYS = RANKING_CACHE_KEY + ":tags";
+    private static final Duration VIEWER_TTL = Duration.ofHours(2);
+    private static final int MAX_PENDING_VIEWERS = 1000;
+
+    private final ConcurrentHashMap<Long, PendingScore> pendingScores = new ConcurrentHashMap<>();
 
     private ZSetOperations<String, String> zSetOperations;
-    private final String KEY = RANKING_CACHE_KEY;
 
     @PostConstruct
     public void init() {
@@ -35,45 +68,340 @@ public class MeetingRankingStoreImpl<T> implements MeetingRankingStore<T> {
     }
 
     @Override
-    public List<T> getRanks(String key, int startIdx, int endIdx, Class<T> type) {
-        Set<String> jsonSet = zSetOperations.reverseRange(KEY, startIdx, endIdx);
-        return convertToValues(jsonSet, type);
+    public List<Long> getRankedIds(RankingWindow window, int startIdx, int endIdx) {
+        return read(() -> range(prepareKey(window), startIdx, endIdx));
+    }
+
+    @Override
+    public List<Long> getRankedIds(Category category, int startIdx, int endIdx) {
+        return read(() -> range(categoryKey(category), startIdx, endIdx));
+    }
+
+    @Override
+    public List<Long> getRankedIdsByTag(String tagName, int startIdx, int endIdx) {
+        return read(() -> range(tagKey(tagName), startIdx, endIdx));
+    }
+
+    /**
+     * 모임의 카테고리 / 태그는 마지막으로 조회된 시점의 값으로 반영한다.
+     */
+    @Override
+    public void increaseScore(Long meetingId, String viewer, Category category, Collection<String> tagNames) {
+        List<String> tagKeys = tagNames == null ? List.of() : tagNames.stream()
+                .map(this::tagKey)
+                .collect(Collectors.toList());
+
+        String categoryKey = category == null ? null : categoryKey(category);
+
+        pendingScores.merge(meetingId, PendingScore.of(viewer, categoryKey, tagKeys), PendingScore::add);
     }
 
+    /**
+     * 누적 랭킹과 기간별 집계 결과, 카테고리 / 태그별 랭킹에서 제거한다. 시간별 ZSET 은 만료될 때까지 남아 있다.
+     * 모임의 태그는 수정되었을 수 있으므로 TAG_KEYS 에 기록된 태그 랭킹 전체에서 제거한다.
+     * 조회 결과에서 이미 걸러지므로 실패해도 다음 조회에서 다시 시도한다.
+     */
     @Override
-    public void updateRank(String key, T rankDto) {
-        String json = convertToJson(rankDto);
+    public void remove(List<Long> meetingIds) {
+        if (meetingIds.isEmpty() || !circuitBreaker.allowRequest()) return;
 
-        zSetOperations.addIfAbsent(KEY, json, 0);
-        zSetOperations.incrementScore(KEY, json, 1);
+        Object[] members = meetingIds.stream().map(String::valueOf).toArray();
+        try {
+            for (RankingWindow window : RankingWindow.values()) {
+                zSetOperations.remove(windowKey(window), members);
+            }
+            for (Category category : Category.values()) {
+                zSetOperations.remove(categoryKey(category), members);
+            }
+            removeFromTagKeys(meetingIds);
+            circuitBreaker.recordSuccess();
+        } catch (Exception exception) {
+            circuitBreaker.recordFailure();
+            log.warn("랭킹에서 모임 제거 실패 : {}", meetingIds, exception);
+        }
+    }
+
+    private void removeFromTagKeys(List<Long> meetingIds) {
+        Set<String> tagKeys = redisTemplate.opsForSet().members(TAG_KEYS);
+        if (tagKeys == null || tagKeys.isEmpty()) return;
+
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[][] members = meetingIds.stream()
+                .map(meetingId -> serializer.serialize(String.valueOf(meetingId)))
+                .toArray(byte[][]::new);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String tagKey : tagKeys) {
+                connection.zSetCommands().zRem(serializer.serialize(tagKey), members);
+            }
+            return null;
+        });
     }
 
     @Override
     public void deleteAll() {
-        Long size = zSetOperations.size(KEY);
-        zSetOperations.removeRange(KEY, 0, size);
+        pendingScores.clear();
+
+        List<String> keys = new ArrayList<>();
+        for (RankingWindow window : RankingWindow.values()) {
+            keys.add(windowKey(window));
+        }
+        for (Category category : Category.values()) {
+            keys.add(categoryKey(category));
+        }
+        Set<String> tagKeys = redisTemplate.opsForSet().members(TAG_KEYS);
+        if (tagKeys != null) keys.addAll(tagKeys);
+        keys.add(TAG_KEYS);
+        long currentHour = currentHour();
+        for (long hour = currentHour - RankingWindow.WEEK.getHours(); hour <= currentHour; hour++) {
+            keys.add(bucketKey(hour));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 모임별 조회자를 remove 로 꺼내므로 flush 중에 들어온 조회는 다음 flush 에 반영된다.
+     * 먼저 PFADD 파이프라인으로 이번 시간에 처음 본 조회자 수를 구하고, 그만큼만 ZINCRBY 파이프라인으로 반영한다.
+     * Redis 반영에 실패하거나 차단 중이면 조회를 메모리에 쌓아 두고 다음 주기에 재시도한다.
+     */
+    @Override
+    @PreDestroy
+    public synchronized void flush() {
+        if (pendingScores.isEmpty() || !circuitBreaker.allowRequest()) return;
+
+        Map<Long, PendingScore> scores = new HashMap<>();
+        for (Long meetingId : pendingScores.keySet()) {
+            PendingScore score = pendingScores.remove(meetingId);
+            if (score != null) scores.put(meetingId, score);
+        }
+
+        long currentHour = currentHour();
+        Map<Long, PendingScore> confirmed;
+        try {
+            confirmed = confirmViewers(scores, currentHour);
+        } catch (Exception exception) {
+            circuitBreaker.recordFailure();
+            log.warn("랭킹 조회자 확인 실패, 다음 주기에 재시도 : {}건", scores.size(), exception);
+            scores.forEach((meetingId, score) -> pendingScores.merge(meetingId, score, PendingScore::add));
+            return;
+        }
+
+        try {
+            increaseScores(confirmed, currentHour);
+            circuitBreaker.recordSuccess();
+        } catch (Exception exception) {
+            circuitBreaker.recordFailure();
+            log.warn("랭킹 조회수 반영 실패, 다음 주기에 재시도 : {}건", confirmed.size(), exception);
+            confirmed.forEach((meetingId, score) -> pendingScores.merge(meetingId, score, PendingScore::add));
+        }
+    }
+
+    /**
+     * @return 조회자를 확인하고 새 조회자 수를 count 에 더한 점수
+     */
+    private Map<Long, PendingScore> confirmViewers(Map<Long, PendingScore> scores, long hour) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        List<Long> addedMeetingIds = new ArrayList<>();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            scores.forEach((meetingId, score) -> {
+                byte[] viewerKey = serializer.serialize(viewerKey(hour, meetingId));
+                for (String viewer : score.viewers) {
+                    connection.hyperLogLogCommands().pfAdd(viewerKey, serializer.serialize(viewer));
+                    addedMeetingIds.add(meetingId);
+                }
+            });
+            scores.keySet().forEach(meetingId -> connection.keyCommands()
+                    .expire(serializer.serialize(viewerKey(hour, meetingId)), VIEWER_TTL.getSeconds()));
+            return null;
+        });
+
+        Map<Long, Long> newViewers = new HashMap<>();
+        for (int i = 0; i < addedMeetingIds.size(); i++) {
+            if (Long.valueOf(1L).equals(results.get(i))) newViewers.merge(addedMeetingIds.get(i), 1L, Long::sum);
+        }
+
+        Map<Long, PendingScore> confirmed = new HashMap<>();
+        scores.forEach((meetingId, score) -> confirmed.put(meetingId, score.confirm(newViewers.getOrDefault(meetingId, 0L))));
+        return confirmed;
+    }
+
+    private void increaseScores(Map<Long, PendingScore> scores, long hour) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] key = serializer.serialize(RANKING_CACHE_KEY);
+        byte[] bucketKey = serializer.serialize(bucketKey(hour));
+        byte[] tagKeys = serializer.serialize(TAG_KEYS);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            scores.forEach((meetingId, score) -> {
+                if (score.count == 0) return;
+
+                byte[] member = serializer.serialize(String.valueOf(meetingId));
+                connection.zSetCommands().zIncrBy(key, score.count, member);
+                connection.zSetCommands().zIncrBy(bucketKey, score.count, member);
+                if (score.categoryKey != null) {
+                    connection.zSetCommands().zIncrBy(serializer.serialize(score.categoryKey), score.count, member);
+                }
+                for (String tagKey : score.tagKeys) {
+                    connection.zSetCommands().zIncrBy(serializer.serialize(tagKey), score.count, member);
+                    connection.setCommands().sAdd(tagKeys, serializer.serialize(tagKey));
+                }
+            });
+            connection.keyCommands().expire(bucketKey, BUCKET_TTL.getSeconds());
+            return null;
+        });
     }
 
-    private String convertToJson(T rankDto) {
+    /**
+     * 이전 버전은 MeetingRankDto JSON 을 member 로 저장했으므로 meetingId 별로 점수를 합쳐 옮긴다.
+     * 기존 키를 먼저 rename 해서 여러 인스턴스가 동시에 떠도 한 곳에서만 옮긴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyRanks() {
+        String migratingKey = LEGACY_RANKING_KEY + ":migrating";
         try {
-            return objectMapper.writeValueAsString(rankDto);
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_RANKING_KEY))) return;
+            redisTemplate.rename(LEGACY_RANKING_KEY, migratingKey);
         } catch (Exception exception) {
-            log.error("Redis IOException = ", exception);
-            throw new UnableToProcessException(UNABLE_TO_PROCESS);
+            log.warn("랭킹 이전 건너뜀 : {}", exception.getMessage());
+            return;
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        Set<TypedTuple<String>> members = zSetOperations.rangeWithScores(migratingKey, 0, -1);
+        if (members != null) {
+            for (TypedTuple<String> member : members) {
+                Long meetingId = parseMeetingId(member.getValue());
+                if (meetingId == null || member.getScore() == null) continue;
+                scores.merge(meetingId, member.getScore(), Double::sum);
+            }
+        }
+
+        scores.forEach((meetingId, score) ->
+                zSetOperations.incrementScore(RANKING_CACHE_KEY, String.valueOf(meetingId), score));
+        redisTemplate.delete(migratingKey);
+
+        log.info("랭킹 이전 완료 : {}건 -> {}건", members == null ? 0 : members.size(), scores.size());
+    }
+
+    /**
+     * 기간 랭킹은 최근 시간별 ZSET 을 ZUNIONSTORE 로 합친 결과를 TRENDING_REFRESH_SECONDS 동안 재사용한다.
+     * 오래된 시간일수록 가중치를 선형으로 낮춰 기간 경계에서 순위가 급격히 바뀌지 않게 한다.
+     */
+    private String prepareKey(RankingWindow window) {
+        String key = windowKey(window);
+        if (window == RankingWindow.ALL || Boolean.TRUE.equals(redisTemplate.hasKey(key))) return key;
+
+        int hours = window.getHours();
+        long currentHour = currentHour();
+        List<String> bucketKeys = new ArrayList<>(hours);
+        double[] weights = new double[hours];
+        for (int age = 0; age < hours; age++) {
+            bucketKeys.add(bucketKey(currentHour - age));
+            weights[age] = (double) (hours - age) / hours;
+        }
+
+        zSetOperations.unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, hours), key,
+                Aggregate.SUM, Weights.of(weights));
+        redisTemplate.expire(key, Duration.ofSeconds(TRENDING_REFRESH_SECONDS));
+        return key;
+    }
+
+    /**
+     * 차단 중이면 Redis 를 호출하지 않고 바로 실패한다. 랭킹 목록 캐시는 이전 목록을 계속 사용한다.
+     */
+    private List<Long> read(Supplier<List<Long>> query) {
+        if (!circuitBreaker.allowRequest()) throw new UnableToProcessException(UNABLE_TO_PROCESS);
+
+        try {
+            List<Long> meetingIds = query.get();
+            circuitBreaker.recordSuccess();
+            return meetingIds;
+        } catch (RuntimeException exception) {
+            circuitBreaker.recordFailure();
+            throw exception;
         }
     }
 
-    private List<T> convertToValues(Set<String> jsonSet, Class<T> type) {
-        return jsonSet.stream()
-                .map(e -> {
-                    T value = null;
-                    try {
-                        value = objectMapper.readValue(e, type);
-                    } catch (Exception exception) {
-                        log.error("Redis IOException = ", exception);
-                        throw new UnableToProcessException(UNABLE_TO_PROCESS);
-                    }
-                    return value;
-                }).collect(Collectors.toList());
+    private List<Long> range(String key, int startIdx, int endIdx) {
+        Set<String> members = zSetOperations.reverseRange(key, startIdx, endIdx);
+        if (members == null) return List.of();
+
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    private String categoryKey(Category category) {
+        return RANKING_CACHE_KEY + ":category:" + category.name();
+    }
+
+    private String tagKey(String tagName) {
+        return RANKING_CACHE_KEY + ":tag:" + tagName;
+    }
+
+    private String windowKey(RankingWindow window) {
+        if (window == RankingWindow.ALL) return RANKING_CACHE_KEY;
+        return RANKING_CACHE_KEY + ":" + window.name().toLowerCase();
+    }
+
+    static String viewerKey(long hour, Long meetingId) {
+        return RANKING_CACHE_KEY + ":viewers:" + hour + ":" + meetingId;
+    }
+
+    static String bucketKey(long hour) {
+        return RANKING_CACHE_KEY + ":hour:" + hour;
+    }
+
+    static long currentHour() {
+        return System.currentTimeMillis() / Duration.ofHours(1).toMillis();
+    }
+
+    private Long parseMeetingId(String json) {
+        try {
+            JsonNode meetingId = objectMapper.readTree(json).get("meetingId");
+            return meetingId == null || meetingId.isNull() ? null : meetingId.asLong();
+        } catch (Exception exception) {
+            log.warn("랭킹 이전 중 해석할 수 없는 member = {}", json);
+            return null;
+        }
+    }
+
+    /**
+     * 확인 전 조회자, 확인을 마친 조회수, 반영할 카테고리 / 태그 랭킹 키. 합칠 때는 나중 조회의 카테고리 / 태그를 따른다.
+     * add 는 ConcurrentHashMap.merge 안에서만 호출되어 모임 단위로 동기화되므로 기존 값을 직접 고친다.
+     */
+    private static class PendingScore {
+        private final Set<String> viewers = new HashSet<>();
+        private long count;
+        private String categoryKey;
+        private List<String> tagKeys;
+
+        private PendingScore(long count, String categoryKey, List<String> tagKeys) {
+            this.count = count;
+            this.categoryKey = categoryKey;
+            this.tagKeys = tagKeys;
+        }
+
+        private static PendingScore of(String viewer, String categoryKey, List<String> tagKeys) {
+            PendingScore score = new PendingScore(0L, categoryKey, tagKeys);
+            score.viewers.add(viewer);
+            return score;
+        }
+
+        private PendingScore confirm(long newViewers) {
+            return new PendingScore(count + newViewers, categoryKey, tagKeys);
+        }
+
+        /**
+         * 차단이 길어져도 메모리가 늘지 않도록 조회자는 MAX_PENDING_VIEWERS 까지만 모으고, 넘치는 조회자는 새 조회자로 본다.
+         */
+        private static PendingScore add(PendingScore previous, PendingScore next) {
+            for (String viewer : next.viewers) {
+                if (previous.viewers.size() < MAX_PENDING_VIEWERS) previous.viewers.add(viewer);
+                else if (!previous.viewers.contains(viewer)) previous.count++;
+            }
+            previous.count += next.count;
+            previous.categoryKey = next.categoryKey;
+            previous.tagKeys = next.tagKeys;
+            return previous;
+        }
     }
-}
\ No newline at end of file
+}
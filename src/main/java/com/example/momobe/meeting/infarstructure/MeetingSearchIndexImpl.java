@@ -0,0 +1,157 @@
+package com.example.momobe.meeting.infarstructure;
+
+import com.example.momobe.meeting.domain.MeetingSearchIndex;
+import com.example.momobe.meeting.domain.enums.MeetingState;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 제목/본문을 1-gram, 2-gram 단위로 쪼개 역색인한다. (한글은 형태소 분석 없이 n-gram 으로 부분 일치를 처리)
+ * 검색어의 모든 n-gram 을 포함하는 모임만 반환하며, 모집중인 모임 → tf-idf 점수 → 최신순으로 정렬한다.
+ * 색인은 인스턴스마다 기동 후 다시 만들어지므로 markReady() 전까지는 조회 측에서 LIKE 검색으로 대신한다.
+ */
+@Component
+public class MeetingSearchIndexImpl implements MeetingSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    @Override
+    public void index(Long meetingId, String title, String content, MeetingState meetingState) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        countTerms(title, TITLE_WEIGHT, termFrequencies);
+        countTerms(content, 1, termFrequencies);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(meetingId);
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(meetingId, frequency));
+            documents.put(meetingId, new Document(termFrequencies.keySet(), meetingState == MeetingState.OPEN));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long meetingId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(meetingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String keyword) {
+        Set<String> queryTerms = queryTerms(keyword);
+        if (queryTerms.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> matchedPostings = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) return List.of();
+                matchedPostings.add(posting);
+            }
+            matchedPostings.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long meetingId : matchedPostings.get(0).keySet()) {
+                double score = 0;
+                for (Map<Long, Integer> posting : matchedPostings) {
+                    Integer frequency = posting.get(meetingId);
+                    if (frequency == null) {
+                        score = -1;
+                        break;
+                    }
+                    score += frequency * Math.log(1 + (double) documents.size() / posting.size());
+                }
+                if (score >= 0) scores.put(meetingId, score);
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Comparator.<Map.Entry<Long, Double>, Boolean>comparing(e -> !documents.get(e.getKey()).open)
+                            .thenComparing(Map.Entry.<Long, Double>comparingByValue().reversed())
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    private void removeDocument(Long meetingId) {
+        Document document = documents.remove(meetingId);
+        if (document == null) return;
+
+        for (String term : document.terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(meetingId);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+    }
+
+    private void countTerms(String text, int weight, Map<String, Integer> termFrequencies) {
+        for (String token : tokenize(text)) {
+            for (int i = 0; i < token.length(); i++) {
+                termFrequencies.merge(token.substring(i, i + 1), weight, Integer::sum);
+                if (i + 2 <= token.length()) {
+                    termFrequencies.merge(token.substring(i, i + 2), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    private Set<String> queryTerms(String keyword) {
+        Set<String> terms = new HashSet<>();
+        for (String token : tokenize(keyword)) {
+            if (token.length() == 1) {
+                terms.add(token);
+                continue;
+            }
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                terms.add(token.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    private List<String> tokenize(String text) {
+        if (!StringUtils.hasText(text)) return List.of();
+        return Arrays.stream(text.toLowerCase().split("\\s+"))
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toList());
+    }
+
+    private static class Document {
+        private final Set<String> terms;
+        private final boolean open;
+
+        private Document(Set<String> terms, boolean open) {
+            this.terms = terms;
+            this.open = open;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.momobe.meeting.infarstructure;
+
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.tag.domain.Tag;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 id 별로 해당 태그가 달린 모임 id 를 비트맵(BitSet)으로 보관한다.
+ * 여러 태그 조건은 DB 조회 전에 비트맵 AND / OR 연산으로 모임 id 집합을 구한다.
+ * 색인은 인스턴스마다 기동 후 다시 만들어지므로 markReady() 전까지는 조회 측에서 요약 테이블의 태그로 대신한다.
+ */
+@Component
+public class MeetingTagIndexImpl implements MeetingTagIndex {
+    private final Map<Long, BitSet> postings = new HashMap<>();
+    private final Map<String, Set<Long>> tagIdsByName = new HashMap<>();
+    private final Map<Long, Set<Long>> tagIdsByMeeting = new HashMap<>();
+    private final Map<Long, String> tagNamesById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    @Override
+    public void index(Long meetingId, List<Tag> tags) {
+        int bit = toBit(meetingId);
+
+        lock.writeLock().lock();
+        try {
+            removeMeeting(meetingId);
+            Set<Long> tagIds = new HashSet<>();
+            for (Tag tag : tags) {
+                tagIdsByName.computeIfAbsent(tag.getName(), key -> new HashSet<>()).add(tag.getId());
+                tagNamesById.put(tag.getId(), tag.getName());
+                postings.computeIfAbsent(tag.getId(), key -> new BitSet()).set(bit);
+                tagIds.add(tag.getId());
+            }
+            if (!tagIds.isEmpty()) tagIdsByMeeting.put(meetingId, tagIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long meetingId) {
+        lock.writeLock().lock();
+        try {
+            removeMeeting(meetingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 조건에 맞는 모임 id (최신 id 순)
+     */
+    @Override
+    public List<Long> findMeetingIds(List<String> tagNames, TagMatch tagMatch) {
+        if (tagNames == null || tagNames.isEmpty()) return List.of();
+
+        BitSet result = null;
+        lock.readLock().lock();
+        try {
+            for (String tagName : tagNames) {
+                BitSet tagged = taggedMeetings(tagName);
+                if (result == null) {
+                    result = tagged;
+                } else if (tagMatch == TagMatch.OR) {
+                    result.or(tagged);
+                } else {
+                    result.and(tagged);
+                }
+                if (tagMatch != TagMatch.OR && result.isEmpty()) return List.of();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> meetingIds = new ArrayList<>(result.cardinality());
+        for (int bit = result.previousSetBit(result.length()); bit >= 0; bit = result.previousSetBit(bit - 1)) {
+            meetingIds.add((long) bit);
+        }
+        return meetingIds;
+    }
+
+    /**
+     * @param meetingIds 집계 대상 모임 id, null 이면 전체 모임
+     * @return 태그 이름별 모임 수 (많은 순)
+     */
+    @Override
+    public Map<String, Long> countTags(Collection<Long> meetingIds) {
+        BitSet candidates = null;
+        if (meetingIds != null) {
+            candidates = new BitSet();
+            for (Long meetingId : meetingIds) {
+                candidates.set(toBit(meetingId));
+            }
+        }
+
+        Map<String, Long> counts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String tagName : tagIdsByName.keySet()) {
+                BitSet tagged = taggedMeetings(tagName);
+                if (candidates != null) tagged.and(candidates);
+                if (!tagged.isEmpty()) counts.put(tagName, (long) tagged.cardinality());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    @Override
+    public List<String> findTagNames(Long meetingId) {
+        lock.readLock().lock();
+        try {
+            Set<Long> tagIds = tagIdsByMeeting.getOrDefault(meetingId, Set.of());
+            List<String> tagNames = new ArrayList<>(tagIds.size());
+            for (Long tagId : tagIds) {
+                String tagName = tagNamesById.get(tagId);
+                if (tagName != null && !tagNames.contains(tagName)) tagNames.add(tagName);
+            }
+            Collections.sort(tagNames);
+            return tagNames;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean containsTag(String tagName) {
+        lock.readLock().lock();
+        try {
+            return tagIdsByName.containsKey(tagName);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    private BitSet taggedMeetings(String tagName) {
+        BitSet tagged = new BitSet();
+        tagIdsByName.getOrDefault(tagName, Set.of()).forEach(tagId -> {
+            BitSet posting = postings.get(tagId);
+            if (posting != null) tagged.or(posting);
+        });
+        return tagged;
+    }
+
+    private void removeMeeting(Long meetingId) {
+        Set<Long> tagIds = tagIdsByMeeting.remove(meetingId);
+        if (tagIds == null) return;
+
+        int bit = toBit(meetingId);
+        for (Long tagId : tagIds) {
+            BitSet posting = postings.get(tagId);
+            if (posting == null) continue;
+            posting.clear(bit);
+            if (posting.isEmpty()) postings.remove(tagId);
+        }
+    }
+
+    private int toBit(Long meetingId) {
+        return Math.toIntExact(meetingId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.momobe.meeting.infarstructure;
+
+import com.example.momobe.meeting.domain.MeetingVersionStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_VERSION_KEY;
+
+/**
+ * 모임별 변경 횟수를 Redis 카운터로 관리한다.
+ * 키는 모임 등록/변경 시(increase) 또는 존재가 확인된 모임의 첫 상세 조회 시(initVersion)에만 만들며,
+ * 현재 시각(ms)에서 시작하므로 Redis 가 초기화되어도 이전에 발급한 버전(ETag)을 다시 쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingVersionStoreImpl implements MeetingVersionStore {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public long getVersion(Long meetingId) {
+        String version = redisTemplate.opsForValue().get(generateKey(meetingId));
+        return version == null ? NO_VERSION : Long.parseLong(version);
+    }
+
+    @Override
+    public long initVersion(Long meetingId) {
+        String key = generateKey(meetingId);
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        return Long.parseLong(redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public long increase(Long meetingId) {
+        String key = generateKey(meetingId);
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        Long version = redisTemplate.opsForValue().increment(key);
+        return version == null ? 0L : version;
+    }
+
+    private String generateKey(Long meetingId) {
+        return MEETING_VERSION_KEY + ":" + meetingId;
+    }
+}
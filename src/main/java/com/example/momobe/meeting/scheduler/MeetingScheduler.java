@@ -1,17 +1,56 @@
 package com.example.momobe.meeting.scheduler;
 
 import com.example.momobe.meeting.application.MeetingAutoCloseService;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.MeetingSummaryBackfillService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
+import com.example.momobe.meeting.domain.MeetingRankingStore;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/*
+ * 스케줄러 스레드는 spring.task.scheduling.pool.size 만큼 사용한다.
+ * 자동 마감이나 새벽 재계산이 길어져도 랭킹 반영(flushRanks)이 밀리지 않도록 1보다 크게 둔다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MeetingScheduler {
     private final MeetingAutoCloseService meetingAutoCloseService;
+    private final MeetingParticipantCountService meetingParticipantCountService;
+    private final MeetingSummaryBackfillService meetingSummaryBackfillService;
+    private final SlotOccupancyService slotOccupancyService;
+    private final MeetingRankingStore meetingRankingStore;
 
     @Scheduled(cron = "0 0 * * * *")
     public void run() {
         meetingAutoCloseService.process();
     }
+
+    // 단계마다 예외를 따로 처리해 앞 단계가 실패해도 다음 단계는 실행한다
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileParticipants() {
+        try {
+            meetingParticipantCountService.reconcile();
+        } catch (RuntimeException e) {
+            log.error("참여 인원 재계산 실패", e);
+        }
+        try {
+            slotOccupancyService.reconcile();
+        } catch (RuntimeException e) {
+            log.error("슬롯 점유 재계산 실패", e);
+        }
+        try {
+            meetingSummaryBackfillService.rebuild();
+        } catch (RuntimeException e) {
+            log.error("모임 요약 재생성 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${meeting.ranking.flush-interval-ms:300}")
+    public void flushRanks() {
+        meetingRankingStore.flush();
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.momobe.meeting.ui;
 
 import com.example.momobe.meeting.dao.MeetingDao;
+import com.example.momobe.meeting.dao.SlotOccupancyDao;
 import com.example.momobe.meeting.dto.out.ResponseMeetingDatesDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.constraints.Pattern;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -17,13 +19,17 @@ import java.util.List;
 @RequestMapping("/meetings")
 public class MeetingDatesQueryController {
     private final MeetingDao meetingDao;
+    private final SlotOccupancyDao slotOccupancyDao;
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/{meetingId}/reservations/dates/{date}")
     public List<ResponseMeetingDatesDto> getDates(@PathVariable(name = "meetingId") Long meetingId,
                                                   @Pattern(regexp = "yyyy-MM-dd") @PathVariable(name = "date") String date) {
-        LocalDate localDate = LocalDate.parse(date);
+        LocalDateTime from = LocalDate.parse(date).withDayOfMonth(1).atStartOfDay();
 
-        return meetingDao.getMonthlyReservationSchedule(meetingId, localDate.getMonthValue());
+        List<ResponseMeetingDatesDto> schedule = slotOccupancyDao.findSchedule(meetingId, from, from.plusMonths(1));
+        // 아직 일정별 예약 인원이 생성되지 않은 모임(보정 작업 전 등록분)은 예약을 직접 집계한다.
+        if (!schedule.isEmpty()) return schedule;
+        return meetingDao.getReservationSchedule(meetingId, from, from.plusMonths(1));
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.momobe.meeting.ui;
 
+import com.example.momobe.common.dto.Cursor;
 import com.example.momobe.common.dto.PageResponseDto;
 import com.example.momobe.common.resolver.Token;
 import com.example.momobe.common.resolver.UserInfo;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 
@@ -23,12 +25,26 @@ public class MeetingMyPageQueryController {
     private final MeetingParticipantQueryRepository meetingParticipantQueryRepository;
 
     @GetMapping("/hosts")
-    public PageResponseDto<MeetingHostResponseDto> meetingHostQuery(@Token UserInfo userInfo, Pageable pageable) {
+    public PageResponseDto<MeetingHostResponseDto> meetingHostQuery(@Token UserInfo userInfo,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    Pageable pageable) {
+        if (cursor != null) {
+            return PageResponseDto.of(meetingHostQueryRepository.findAll(
+                    userInfo.getId(), Cursor.decode(cursor), pageable.getPageSize()));
+        }
+
         return PageResponseDto.of(meetingHostQueryRepository.findAll(userInfo.getId(), pageable));
     }
 
     @GetMapping("/participants")
-    public PageResponseDto<MeetingParticipantResponseDto> meetingParticipantQuery(@Token UserInfo userInfo, Pageable pageable) {
+    public PageResponseDto<MeetingParticipantResponseDto> meetingParticipantQuery(@Token UserInfo userInfo,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  Pageable pageable) {
+        if (cursor != null) {
+            return PageResponseDto.of(meetingParticipantQueryRepository.findAll(
+                    userInfo.getId(), Cursor.decode(cursor), pageable.getPageSize()));
+        }
+
         return PageResponseDto.of(meetingParticipantQueryRepository.findAll(userInfo.getId(), pageable));
     }
 
@@ -1,47 +1,118 @@
 package com.example.momobe.meeting.ui;
 
+import com.example.momobe.common.dto.Cursor;
 import com.example.momobe.common.dto.PageResponseDto;
-import com.example.momobe.meeting.dao.MeetingDetailQueryRepository;
+import com.example.momobe.common.exception.enums.ErrorCode;
+import com.example.momobe.common.resolver.Token;
+import com.example.momobe.common.resolver.UserInfo;
+import com.example.momobe.meeting.dao.MeetingDetailCacheRepository;
+import com.example.momobe.meeting.dao.MeetingFacetQueryRepository;
+import com.example.momobe.meeting.dao.MeetingPageCacheRepository;
 import com.example.momobe.meeting.dao.MeetingQueryRepository;
+import com.example.momobe.meeting.domain.MeetingException;
 import com.example.momobe.meeting.domain.MeetingRankingStore;
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.MeetingVersionStore;
 import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.MeetingDetailSection;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.meeting.dto.out.MeetingBatchResponseDto;
 import com.example.momobe.meeting.dto.out.MeetingDetailResponseDto;
-import com.example.momobe.meeting.dto.out.MeetingRankDto;
+import com.example.momobe.meeting.dto.out.MeetingFacetResponseDto;
 import com.example.momobe.meeting.dto.out.MeetingResponseDto;
-import com.example.momobe.meeting.mapper.MeetingRankMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.websocket.server.PathParam;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static com.example.momobe.meeting.constants.MeetingConstants.*;
+import static com.example.momobe.meeting.domain.MeetingVersionStore.NO_VERSION;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/meetings")
 public class MeetingQueryController {
     private final MeetingQueryRepository meetingQueryRepository;
-    private final MeetingDetailQueryRepository meetingDetailQueryRepository;
-    private final MeetingRankingStore<MeetingRankDto> meetingRankingStore;
-    private final MeetingRankMapper meetingRankMapper;
+    private final MeetingDetailCacheRepository meetingDetailCacheRepository;
+    private final MeetingFacetQueryRepository meetingFacetQueryRepository;
+    private final MeetingPageCacheRepository meetingPageCacheRepository;
+    private final MeetingRankingStore meetingRankingStore;
+    private final MeetingVersionStore meetingVersionStore;
+    private final MeetingTagIndex meetingTagIndex;
 
     @GetMapping
     public PageResponseDto<MeetingResponseDto> meetingQuery(@PathParam("keyword") String keyword,
                                                             @PathParam("category") Category category,
-                                                            @PathParam("tag") String tag,
+                                                            @RequestParam(value = "tag", required = false) List<String> tags,
+                                                            @PathParam("tagMatch") TagMatch tagMatch,
+                                                            @PathParam("cursor") String cursor,
                                                             Pageable pageable) {
-        return PageResponseDto.of(meetingQueryRepository.findAll(keyword, category, tag, pageable));
+        if (cursor != null) {
+            return PageResponseDto.of(meetingQueryRepository.findAll(
+                    keyword, category, tags, tagMatch, Cursor.decode(cursor), pageable.getPageSize()));
+        }
+
+        return PageResponseDto.of(meetingPageCacheRepository.findAll(keyword, category, tags, tagMatch, pageable));
+    }
+
+    @GetMapping("/facets")
+    public MeetingFacetResponseDto meetingFacetQuery(@PathParam("keyword") String keyword,
+                                                     @PathParam("category") Category category,
+                                                     @RequestParam(value = "tag", required = false) List<String> tags,
+                                                     @PathParam("tagMatch") TagMatch tagMatch) {
+        return meetingFacetQueryRepository.findFacets(keyword, category, tags, tagMatch);
     }
 
+    @GetMapping("/batch")
+    public MeetingBatchResponseDto meetingBatchQuery(@RequestParam("ids") List<Long> meetingIds) {
+        if (meetingIds.size() > BATCH_LIMIT) throw new MeetingException(ErrorCode.EXCEEDED_BATCH_SIZE);
+
+        return meetingQueryRepository.findAllByIds(meetingIds);
+    }
+
+    /**
+     * 모임 버전으로 만든 ETag 가 If-None-Match 와 같으면 상세 조회 없이 304 를 반환한다.
+     * 버전이 없는 모임은 조회로 존재를 확인한 뒤에 버전을 만들어 ETag 를 내려준다.
+     * include 를 지정하면 기본 정보와 선택한 항목만 조회한다.
+     * 랭킹 조회수는 로그인 사용자는 id, 비로그인 사용자는 IP 해시로 구분해 시간당 한 번만 반영한다.
+     */
     @GetMapping("/{meeting-id}")
-    public MeetingResponseDto meetingDetailQuery(@PathVariable("meeting-id") Long meetingId) {
-        MeetingDetailResponseDto meeting = meetingDetailQueryRepository.findById(meetingId);
-        meetingRankingStore.updateRank(RANKING_CACHE_KEY, meetingRankMapper.of(meeting));
+    public MeetingResponseDto meetingDetailQuery(@PathVariable("meeting-id") Long meetingId,
+                                                 @RequestParam(value = "include", required = false) List<MeetingDetailSection> sections,
+                                                 @Token UserInfo userInfo,
+                                                 HttpServletRequest request,
+                                                 HttpServletResponse response,
+                                                 WebRequest webRequest) {
+        long version = meetingVersionStore.getVersion(meetingId);
+        if (version != NO_VERSION && webRequest.checkNotModified(meetingVersionStore.generateETag(meetingId, version))) return null;
+
+        MeetingDetailResponseDto meeting = meetingDetailCacheRepository.findById(
+                meetingId, version, MeetingDetailSection.of(sections));
+        if (version == NO_VERSION) {
+            response.setHeader(HttpHeaders.ETAG,
+                    meetingVersionStore.generateETag(meetingId, meetingVersionStore.initVersion(meetingId)));
+        }
+        meetingRankingStore.increaseScore(meetingId, viewerOf(userInfo, request),
+                Category.of(meeting.getCategory()), meetingTagIndex.findTagNames(meetingId));
 
         return meeting;
     }
+
+    // 로드밸런서 뒤에서는 server.forward-headers-strategy 설정으로 remoteAddr 가 X-Forwarded-For 의 클라이언트 IP 가 된다.
+    private String viewerOf(UserInfo userInfo, HttpServletRequest request) {
+        if (userInfo != null && userInfo.getId() != null) return "user:" + userInfo.getId();
+        return "ip:" + DigestUtils.md5DigestAsHex(request.getRemoteAddr().getBytes(StandardCharsets.UTF_8));
+    }
 }
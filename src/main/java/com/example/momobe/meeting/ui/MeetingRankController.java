@@ -1,26 +1,37 @@
 package com.example.momobe.meeting.ui;
 
-import com.example.momobe.meeting.constants.MeetingConstants;
-import com.example.momobe.meeting.domain.MeetingRankingStore;
+import com.example.momobe.meeting.dao.MeetingRankCacheRepository;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.RankingWindow;
 import com.example.momobe.meeting.dto.out.MeetingRankDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.websocket.server.PathParam;
 import java.util.List;
 
 @RestController
 @RequestMapping("/ranks")
 @RequiredArgsConstructor
 public class MeetingRankController {
-    private final MeetingRankingStore<MeetingRankDto> meetingRankingStore;
+    private final MeetingRankCacheRepository meetingRankCacheRepository;
 
+    /**
+     * category, tag 중 하나를 지정하면 해당 카테고리 / 태그의 누적 랭킹을 반환한다. 둘 다 지정하면 category 를 따른다.
+     */
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<MeetingRankDto> getRanks() {
-        return meetingRankingStore.getRanks(MeetingConstants.RANKING_CACHE_KEY, 0, 9, MeetingRankDto.class);
+    public List<MeetingRankDto> getRanks(@PathParam("window") RankingWindow window,
+                                         @PathParam("category") Category category,
+                                         @PathParam("tag") String tag) {
+        if (category != null) return meetingRankCacheRepository.findRanks(category);
+        if (StringUtils.hasText(tag)) return meetingRankCacheRepository.findRanksByTag(tag.trim());
+
+        return meetingRankCacheRepository.findRanks(RankingWindow.of(window));
     }
 }
@@ -1,6 +1,8 @@
 package com.example.momobe.payment.application;
 
 import com.example.momobe.common.exception.enums.ErrorCode;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
 import com.example.momobe.payment.dao.PaymentReadDao;
 import com.example.momobe.payment.dao.PaymentUpdateDao;
 import com.example.momobe.payment.domain.Payment;
@@ -25,6 +27,8 @@ public class PaymentSuccessService {
     private final PaymentUpdateDao paymentUpdateDao;
     private final PaymentReadDao paymentReadDao;
     private final PaymentRepository paymentRepository;
+    private final MeetingParticipantCountService meetingParticipantCountService;
+    private final SlotOccupancyService slotOccupancyService;
 
     @Transactional(propagation = MANDATORY)
     public void setSuccessState(String orderId) {
@@ -46,6 +50,11 @@ public class PaymentSuccessService {
 
     private void setReservationState(String orderId) {
         Long reservationId = paymentReadDao.getReservationIdByOrderId(orderId);
-        paymentUpdateDao.setReservationState(PAYMENT_SUCCESS, reservationId);
+        slotOccupancyService.occupyByReservationId(reservationId);
+        if (paymentUpdateDao.setReservationState(PAYMENT_SUCCESS, reservationId) == 0) {
+            log.info("이미 결제 완료된 예약 : {}", reservationId);
+            return;
+        }
+        meetingParticipantCountService.increaseByReservationId(reservationId);
     }
 }
@@ -6,7 +6,10 @@ import org.apache.ibatis.annotations.Update;
 
 @Mapper
 public interface PaymentUpdateDao {
+    /**
+     * @return 변경된 예약 수, 이미 같은 상태였다면 0 (중복 결제 승인 콜백)
+     */
     @Update("update reservation as r set r.reservation_state = #{reservationState}\n" +
-            "    where r.reservation_id = #{reservationId}")
-    void setReservationState(ReservationState reservationState, Long reservationId);
+            "    where r.reservation_id = #{reservationId} and r.reservation_state <> #{reservationState}")
+    int setReservationState(ReservationState reservationState, Long reservationId);
 }
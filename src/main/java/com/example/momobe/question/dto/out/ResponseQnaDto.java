@@ -0,0 +1,15 @@
+package com.example.momobe.question.dto.out;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 작성한 질문/답변과 작성 후의 모임 버전(ETag)을 함께 반환한다.
+ * 클라이언트는 목록을 다시 조회하지 않고 항목을 추가한 뒤 버전을 If-None-Match 로 사용할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class ResponseQnaDto<T> {
+    private final T item;
+    private final String version;
+}
@@ -5,12 +5,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @ToString
-public class ResponseQuestionDto {
+public class ResponseQuestionDto implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final Long questionId;
     private final String content;
     private final User questioner;
@@ -28,6 +32,12 @@ public class ResponseQuestionDto {
         this.answers = answers;
     }
 
+    // 답변은 질문 조회 후 따로 채운다.
+    @QueryProjection
+    public ResponseQuestionDto(Long questionId, String content, Long userId, String email, String nickname, String imageUrl, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(questionId, content, userId, email, nickname, imageUrl, createdAt, modifiedAt, new ArrayList<>());
+    }
+
     @Builder
     public ResponseQuestionDto(Long questionId, String content, User questioner, LocalDateTime createdAt, LocalDateTime modifiedAt, List<Answer> answers) {
         this.questionId = questionId;
@@ -40,7 +50,9 @@ public class ResponseQuestionDto {
 
     @Getter
     @ToString
-    public static class Answer {
+    public static class Answer implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private final Long answerId;
         private final String content;
         private final User answerer;
@@ -69,7 +81,9 @@ public class ResponseQuestionDto {
     @Builder
     @Getter
     @ToString
-    public static class User {
+    public static class User implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private final Long userId;
         private final String email;
         private final String nickname;
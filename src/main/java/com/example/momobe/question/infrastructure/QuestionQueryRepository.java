@@ -1,28 +1,30 @@
 package com.example.momobe.question.infrastructure;
 
-import com.example.momobe.answer.domain.QAnswer;
-import com.example.momobe.question.domain.QQuestion;
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
 import com.example.momobe.question.dto.out.QResponseQuestionDto;
 import com.example.momobe.question.dto.out.QResponseQuestionDto_Answer;
 import com.example.momobe.question.dto.out.ResponseQuestionDto;
 import com.example.momobe.user.domain.QAvatar;
 import com.example.momobe.user.domain.QUser;
-import com.querydsl.core.group.GroupBy;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.example.momobe.answer.domain.QAnswer.*;
 import static com.example.momobe.question.domain.QQuestion.*;
-import static com.example.momobe.user.domain.QAvatar.*;
-import static com.example.momobe.user.domain.QUser.*;
 import static com.querydsl.core.group.GroupBy.*;
 
+/**
+ * 질문과 답변은 각각 따로 조회한다. 답변은 질문 id 목록으로 한 번에 조회하며 정렬은 DB 에서 한다.
+ */
 @Repository
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -31,35 +33,85 @@ public class QuestionQueryRepository {
 
     QUser questioner = new QUser("questioner");
     QUser answerer = new QUser("answerer");
+    QAvatar questionerAvatar = new QAvatar("questionerAvatar");
+    QAvatar answererAvatar = new QAvatar("answererAvatar");
+
     public List<ResponseQuestionDto> getQuestions(Long meetingId) {
-        return jpaQueryFactory.select(question)
+        List<ResponseQuestionDto> questions = generateQuestionQuery()
+                .where(question.meeting.meetingId.eq(meetingId))
+                .orderBy(question.createdAt.asc(), question.id.asc())
+                .fetch();
+        initAnswers(questions);
+
+        return questions;
+    }
+
+    public CursorSlice<ResponseQuestionDto> getQuestions(Long meetingId, Cursor cursor, int size) {
+        List<ResponseQuestionDto> questions = generateQuestionQuery()
+                .where(question.meeting.meetingId.eq(meetingId), afterCursor(cursor))
+                .orderBy(question.createdAt.asc(), question.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        CursorSlice<ResponseQuestionDto> slice = CursorSlice.of(questions, size,
+                dto -> new Cursor(dto.getCreatedAt(), dto.getQuestionId()));
+        initAnswers(slice.getContent());
+
+        return slice;
+    }
+
+    public ResponseQuestionDto getQuestion(Long questionId) {
+        return generateQuestionQuery()
+                .where(question.id.eq(questionId))
+                .fetchOne();
+    }
+
+    public ResponseQuestionDto.Answer getAnswer(Long answerId) {
+        return generateAnswerQuery()
+                .where(answer.id.eq(answerId))
+                .fetchOne();
+    }
+
+    private JPAQuery<ResponseQuestionDto> generateQuestionQuery() {
+        return jpaQueryFactory
+                .select(new QResponseQuestionDto(question.id, question.content.content, questioner.id, questioner.email.address,
+                        questioner.nickname.nickname, questionerAvatar.remotePath, question.createdAt, question.lastModifiedAt))
                 .from(question)
                 .innerJoin(questioner).on(question.writer.writerId.eq(questioner.id))
-                .leftJoin(answer).on(question.id.eq(answer.question.questionId))
+                .leftJoin(questioner.avatar, questionerAvatar);
+    }
+
+    private JPAQuery<ResponseQuestionDto.Answer> generateAnswerQuery() {
+        return jpaQueryFactory
+                .select(generateAnswerProjection())
+                .from(answer)
                 .leftJoin(answerer).on(answer.writer.writerId.eq(answerer.id))
-                .leftJoin(questioner.avatar, avatar)
-                .leftJoin(answerer.avatar, avatar)
-                .where(question.meeting.meetingId.eq(meetingId))
-                .orderBy(question.createdAt.asc())
-                .transform(groupBy(question.id)
-                        .list(
-                                new QResponseQuestionDto(question.id, question.content.content, questioner.id, questioner.email.address,
-                                        questioner.nickname.nickname, questioner.avatar.remotePath, question.createdAt,
-                                        question.lastModifiedAt, list(
-                                                new QResponseQuestionDto_Answer(answer.id, answer.content.content, answerer.id, answerer.email.address, answerer.nickname.nickname, answerer.avatar.remotePath,
-                                                        answer.createdAt, answer.lastModifiedAt)
-                                ))
-                        ))
-                .stream()
-                .peek(e -> {
-                    ResponseQuestionDto.Answer answer = e.getAnswers().get(0);
-                    if (answer.getAnswerId() == null) {
-                        e.getAnswers().remove(answer);
-                    }
-                    if (answer.getAnswerId() != null) {
-                        e.getAnswers().sort(Comparator.comparing(ResponseQuestionDto.Answer::getCreatedAt));
-                    }
-                })
+                .leftJoin(answerer.avatar, answererAvatar);
+    }
+
+    private QResponseQuestionDto_Answer generateAnswerProjection() {
+        return new QResponseQuestionDto_Answer(answer.id, answer.content.content, answerer.id, answerer.email.address,
+                answerer.nickname.nickname, answererAvatar.remotePath, answer.createdAt, answer.lastModifiedAt);
+    }
+
+    private void initAnswers(List<ResponseQuestionDto> questions) {
+        if (questions.isEmpty()) return;
+
+        List<Long> questionIds = questions.stream()
+                .map(ResponseQuestionDto::getQuestionId)
                 .collect(Collectors.toList());
+
+        Map<Long, List<ResponseQuestionDto.Answer>> answers = generateAnswerQuery()
+                .where(answer.question.questionId.in(questionIds))
+                .orderBy(answer.createdAt.asc(), answer.id.asc())
+                .transform(groupBy(answer.question.questionId).as(list(generateAnswerProjection())));
+
+        questions.forEach(dto -> dto.getAnswers().addAll(answers.getOrDefault(dto.getQuestionId(), List.of())));
+    }
+
+    private BooleanExpression afterCursor(Cursor cursor) {
+        if (cursor == null) return null;
+        return question.createdAt.gt(cursor.getCreatedAt())
+                .or(question.createdAt.eq(cursor.getCreatedAt()).and(question.id.gt(cursor.getId())));
     }
 }
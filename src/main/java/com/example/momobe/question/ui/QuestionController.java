@@ -1,19 +1,31 @@
 package com.example.momobe.question.ui;
 
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.PageResponseDto;
 import com.example.momobe.common.resolver.Token;
 import com.example.momobe.common.resolver.UserInfo;
+import com.example.momobe.meeting.application.MeetingEventPublishService;
+import com.example.momobe.meeting.domain.MeetingVersionStore;
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
+import com.example.momobe.question.domain.Question;
 import com.example.momobe.question.domain.QuestionRepository;
 import com.example.momobe.question.dto.in.QuestionDto;
+import com.example.momobe.question.dto.out.ResponseQnaDto;
 import com.example.momobe.question.dto.out.ResponseQuestionDto;
 import com.example.momobe.question.infrastructure.QuestionQueryRepository;
 import com.example.momobe.question.mapper.QuestionMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
+import javax.websocket.server.PathParam;
 import java.util.List;
 
+import static com.example.momobe.meeting.domain.MeetingVersionStore.NO_VERSION;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/meetings")
@@ -21,19 +33,38 @@ public class QuestionController {
     private final QuestionMapper questionMapper;
     private final QuestionRepository questionRepository;
     private final QuestionQueryRepository questionQueryRepository;
+    private final MeetingEventPublishService meetingEventPublishService;
+    private final MeetingVersionStore meetingVersionStore;
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/{meetingsId}/questions")
-    public List<ResponseQuestionDto> postQuestion(@PathVariable (name = "meetingsId") Long meetingId,
-                                                  @Token UserInfo userInfo,
-                                                  @Valid @RequestBody QuestionDto questionDto) {
-        questionRepository.save(questionMapper.of(meetingId, userInfo, questionDto));
-        return questionQueryRepository.getQuestions(meetingId);
+    public ResponseQnaDto<ResponseQuestionDto> postQuestion(@PathVariable (name = "meetingsId") Long meetingId,
+                                                            @Token UserInfo userInfo,
+                                                            @Valid @RequestBody QuestionDto questionDto) {
+        Question question = questionRepository.save(questionMapper.of(meetingId, userInfo, questionDto));
+        meetingEventPublishService.publishChangedEvent(meetingId, ChangeType.QNA_CHANGED);
+
+        return new ResponseQnaDto<>(questionQueryRepository.getQuestion(question.getId()),
+                meetingVersionStore.generateETag(meetingId, meetingVersionStore.getVersion(meetingId)));
     }
 
+    // @ResponseStatus 를 지정하면 304 응답의 상태 코드를 덮어쓰므로 기본 상태 코드를 사용한다.
     @GetMapping("/{meetingId}/qna")
-    @ResponseStatus(HttpStatus.OK)
-    public List<ResponseQuestionDto> getQuestions(@PathVariable(name = "meetingId") Long meetingId) {
+    public List<ResponseQuestionDto> getQuestions(@PathVariable(name = "meetingId") Long meetingId, WebRequest webRequest) {
+        long version = meetingVersionStore.getVersion(meetingId);
+        if (version != NO_VERSION && webRequest.checkNotModified(meetingVersionStore.generateETag(meetingId, version))) return null;
+
         return questionQueryRepository.getQuestions(meetingId);
     }
+
+    @GetMapping("/{meetingId}/questions")
+    public PageResponseDto<ResponseQuestionDto> getQuestions(@PathVariable(name = "meetingId") Long meetingId,
+                                                             @PathParam("cursor") String cursor,
+                                                             Pageable pageable,
+                                                             WebRequest webRequest) {
+        long version = meetingVersionStore.getVersion(meetingId);
+        if (version != NO_VERSION && webRequest.checkNotModified(meetingVersionStore.generateETag(meetingId, version))) return null;
+
+        return PageResponseDto.of(questionQueryRepository.getQuestions(meetingId, Cursor.decode(cursor), pageable.getPageSize()));
+    }
 }
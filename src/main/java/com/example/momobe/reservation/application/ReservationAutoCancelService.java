@@ -1,6 +1,8 @@
 package com.example.momobe.reservation.application;
 
 import com.example.momobe.maill.enums.MailType;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
 import com.example.momobe.reservation.dao.PaymentDao;
 import com.example.momobe.reservation.dao.PointHistoryDao;
 import com.example.momobe.reservation.dao.ReservationDao;
@@ -28,6 +30,8 @@ public class ReservationAutoCancelService {
     private final PointHistoryDao pointHistoryDao;
     private final ReservationEventPublishService reservationEventPublishService;
     private final MailEventPublishService mailEventPublishService;
+    private final MeetingParticipantCountService meetingParticipantCountService;
+    private final SlotOccupancyService slotOccupancyService;
 
     @Transactional
     public void process() {
@@ -42,6 +46,15 @@ public class ReservationAutoCancelService {
             cancelPaymentAndRefund(paidReservations);
             notifyUser(paidReservations);
         }
+
+        decreaseParticipants(reservations);
+        slotOccupancyService.release(reservations);
+    }
+
+    private void decreaseParticipants(List<Reservation> deniedReservations) {
+        deniedReservations.stream()
+                .collect(Collectors.groupingBy(Reservation::getMeetingId, Collectors.counting()))
+                .forEach(meetingParticipantCountService::decrease);
     }
 
     private void notifyUser(List<Reservation> paidReservations) {
@@ -2,6 +2,8 @@ package com.example.momobe.reservation.application;
 
 import com.example.momobe.common.resolver.UserInfo;
 import com.example.momobe.meeting.application.MeetingCommonService;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.payment.application.PaymentSaveService;
 import com.example.momobe.payment.domain.Payment;
@@ -25,6 +27,8 @@ public class ReservationBookService {
     private final PaymentSaveService paymentSaveService;
     private final PaymentMapper paymentMapper;
     private final ReservationValidateService reservationValidateService;
+    private final MeetingParticipantCountService meetingParticipantCountService;
+    private final SlotOccupancyService slotOccupancyService;
 
     public PaymentResponseDto reserve(Long meetingId, PostReservationDto reservationDto, UserInfo userInfo) {
         Meeting meeting = meetingCommonService.getMeeting(meetingId);
@@ -37,6 +41,8 @@ public class ReservationBookService {
 
     private PaymentResponseDto getPaymentResponse(UserInfo userInfo, Reservation reservation, Meeting meeting) {
         if (reservation.isPaymentSucceed()) {
+            meetingParticipantCountService.increase(meeting.getId());
+            slotOccupancyService.occupy(reservation);
             return PaymentResponseDto.freeOrder(meeting, userInfo);
         }
 
@@ -1,6 +1,8 @@
 package com.example.momobe.reservation.application;
 
 import com.example.momobe.common.resolver.UserInfo;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
 import com.example.momobe.reservation.dao.PaymentDao;
 import com.example.momobe.reservation.domain.ReservationException;
 import com.example.momobe.reservation.domain.Reservation;
@@ -23,6 +25,8 @@ public class ReservationCancelService {
     private final PaymentDao paymentDAO;
     private final ReservationFindService reservationFindService;
     private final ReservationEventPublishService reservationEventPublishService;
+    private final MeetingParticipantCountService meetingParticipantCountService;
+    private final SlotOccupancyService slotOccupancyService;
 
     @Transactional
     public void cancelReservation(Long reservationId, DeleteReservationDto deleteReservationDto, UserInfo userInfo) {
@@ -30,6 +34,8 @@ public class ReservationCancelService {
 
         validateCancellation(userInfo, reservation, deleteReservationDto);
         reservation.cancel();
+        meetingParticipantCountService.decrease(reservation.getMeetingId());
+        slotOccupancyService.release(reservation);
 
         if (deleteReservationDto.getPaymentKey() != null) {
             reservationEventPublishService
@@ -3,6 +3,8 @@ package com.example.momobe.reservation.application;
 import com.example.momobe.common.resolver.UserInfo;
 import com.example.momobe.maill.enums.MailType;
 import com.example.momobe.meeting.application.MeetingCommonService;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.reservation.dao.UserMailDao;
 import com.example.momobe.reservation.domain.ReservationException;
@@ -26,6 +28,8 @@ public class ReservationConfirmService {
     private final ReservationFindService reservationFindService;
     private final UserMailDao userMailDao;
     private final MailEventPublishService mailEventPublishService;
+    private final MeetingParticipantCountService meetingParticipantCountService;
+    private final SlotOccupancyService slotOccupancyService;
 
     public void confirm(Long meetingId, Long reservationId, UserInfo userInfo, PatchReservationDto request) {
         Reservation reservation = validateRequest(meetingId, reservationId, userInfo);
@@ -33,6 +37,8 @@ public class ReservationConfirmService {
 
         if (isDenied(request)) {
             reservation.deny();
+            meetingParticipantCountService.decrease(meetingId);
+            slotOccupancyService.release(reservation);
             mailEventPublishService.publish(userMail, MailType.DENY);
         } else {
             reservation.accept();
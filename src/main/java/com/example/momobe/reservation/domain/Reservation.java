@@ -23,6 +23,10 @@ import static lombok.AccessLevel.*;
 @EqualsAndHashCode(callSuper = false)
 @AllArgsConstructor(access = PRIVATE)
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_reservation_user_id_created_at", columnList = "user_id, created_at, reservation_id"),
+        @Index(name = "idx_reservation_meeting_id_state_start", columnList = "meeting_id, reservation_state, start_date_time")
+})
 public class Reservation extends BaseTime {
     @Id
     @Column(name = "reservation_id")
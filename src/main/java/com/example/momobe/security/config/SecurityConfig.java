@@ -51,6 +51,8 @@ public class SecurityConfig {
                 .mvcMatchers("/mypage/**").hasAnyRole("USER", "MANAGER", "ADMIN")
                 .mvcMatchers("/payments/**").hasAnyRole("USER", "MANAGER", "ADMIN")
                 .mvcMatchers("/ranks").permitAll()
+                .mvcMatchers("/actuator/health").permitAll()
+                .mvcMatchers("/actuator/**").hasAnyRole("ADMIN")
                 .mvcMatchers("/auth/**").permitAll()
                 .mvcMatchers("/test/user/**").hasAnyRole("MANAGER","ADMIN","USER")
                 .mvcMatchers("/test/manager/**").hasAnyRole("MANAGER","ADMIN")
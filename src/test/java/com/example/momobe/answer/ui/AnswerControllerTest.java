@@ -1,11 +1,14 @@
 package com.example.momobe.answer.ui;
 
+import com.example.momobe.answer.domain.Answer;
 import com.example.momobe.answer.domain.AnswerRepository;
 import com.example.momobe.answer.dto.AnswerDto;
 import com.example.momobe.answer.mapper.AnswerMapper;
 import com.example.momobe.common.config.SecurityTestConfig;
 import com.example.momobe.common.exception.ui.ExceptionController;
 import com.example.momobe.common.resolver.JwtArgumentResolver;
+import com.example.momobe.meeting.application.MeetingEventPublishService;
+import com.example.momobe.meeting.domain.MeetingVersionStore;
 import com.example.momobe.question.dto.out.ResponseQuestionDto;
 import com.example.momobe.question.infrastructure.QuestionQueryRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -58,6 +61,12 @@ class AnswerControllerTest {
     @MockBean
     QuestionQueryRepository questionQueryRepository;
 
+    @MockBean
+    MeetingEventPublishService meetingEventPublishService;
+
+    @MockBean
+    MeetingVersionStore meetingVersionStore;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -110,16 +119,10 @@ class AnswerControllerTest {
                 .modifiedAt(LocalDateTime.now())
                 .build();
 
-        ResponseQuestionDto question = ResponseQuestionDto.builder()
-                .questionId(ID1)
-                .questioner(user)
-                .answers(List.of(answer))
-                .content(CONTENT1)
-                .createdAt(LocalDateTime.now())
-                .modifiedAt(LocalDateTime.now())
-                .build();
-
-        BDDMockito.given(questionQueryRepository.getQuestions(any())).willReturn(List.of(question, question));
+        BDDMockito.given(answerRepository.save(any())).willReturn(Answer.builder().id(ID1).build());
+        BDDMockito.given(questionQueryRepository.getAnswer(ID1)).willReturn(answer);
+        BDDMockito.given(meetingVersionStore.getVersion(ID1)).willReturn(3L);
+        BDDMockito.given(meetingVersionStore.generateETag(ID1, 3L)).willReturn("W/\"1-3\"");
 
         // when
         ResultActions perform = mockMvc.perform(post("/meetings/{meeting-id}/questions/{question-id}/answers", 1L, 1L)
@@ -137,25 +140,17 @@ class AnswerControllerTest {
                                 fieldWithPath("content").description("질문 글 내용")
                         ),
                         responseFields(
-                                fieldWithPath("[].questionId").type(LONG).description("질문 아이디"),
-                                fieldWithPath("[].content").type(STRING).description("질문 내용"),
-                                fieldWithPath("[].questioner").type(OBJECT).description("질문자 정보"),
-                                fieldWithPath("[].questioner.userId").type(LONG).description("질문자 아이디"),
-                                fieldWithPath("[].questioner.email").type(STRING).description("질문자 이메일"),
-                                fieldWithPath("[].questioner.nickname").type(STRING).description("질문자 닉네임"),
-                                fieldWithPath("[].questioner.imageUrl").type(STRING).description("질문자 프로필 이미지"),
-                                fieldWithPath("[].createdAt").type(STRING).description("질문 작성일"),
-                                fieldWithPath("[].modifiedAt").type(STRING).description("질문 수정일"),
-                                fieldWithPath("[].answers").type(OBJECT_ARRAY).description("답변 목록"),
-                                fieldWithPath("[].answers[].answerId").type(STRING).description("답변 아이디"),
-                                fieldWithPath("[].answers[].content").type(STRING).description("답변 내용"),
-                                fieldWithPath("[].answers[].answerer").type(OBJECT).description("답변자 정보"),
-                                fieldWithPath("[].answers[].answerer.userId").type(LONG).description("답변자 아이디"),
-                                fieldWithPath("[].answers[].answerer.email").type(STRING).description("답변자 이메일"),
-                                fieldWithPath("[].answers[].answerer.nickname").type(STRING).description("답변자 닉네임"),
-                                fieldWithPath("[].answers[].answerer.imageUrl").type(STRING).description("답변자 프로필 이미지"),
-                                fieldWithPath("[].answers[].createdAt").type(STRING).description("답변 작성일"),
-                                fieldWithPath("[].answers[].modifiedAt").type(STRING).description("답변 수정일")
+                                fieldWithPath("item").type(OBJECT).description("작성한 답변"),
+                                fieldWithPath("item.answerId").type(LONG).description("답변 아이디"),
+                                fieldWithPath("item.content").type(STRING).description("답변 내용"),
+                                fieldWithPath("item.answerer").type(OBJECT).description("답변자 정보"),
+                                fieldWithPath("item.answerer.userId").type(LONG).description("답변자 아이디"),
+                                fieldWithPath("item.answerer.email").type(STRING).description("답변자 이메일"),
+                                fieldWithPath("item.answerer.nickname").type(STRING).description("답변자 닉네임"),
+                                fieldWithPath("item.answerer.imageUrl").type(STRING).description("답변자 프로필 이미지"),
+                                fieldWithPath("item.createdAt").type(STRING).description("답변 작성일"),
+                                fieldWithPath("item.modifiedAt").type(STRING).description("답변 수정일"),
+                                fieldWithPath("version").type(STRING).description("작성 후 모임 버전 (If-None-Match 에 사용)")
                         ))
                 ).andDo(
                         print()
@@ -0,0 +1,59 @@
+package com.example.momobe.common.dto;
+
+import com.example.momobe.common.exception.CanNotConvertException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 createdAt과 id를 가진다")
+    void encodeAndDecode() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 15, 10, 30, 15, 123000000);
+        Cursor cursor = new Cursor(createdAt, 42L);
+
+        //when
+        Cursor result = Cursor.decode(cursor.encode());
+
+        //then
+        assertThat(result.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(result.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지를 의미하므로 null을 반환한다")
+    void decodeEmpty() {
+        assertThat(Cursor.decode("")).isNull();
+        assertThat(Cursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서는 CanNotConvertException이 발생한다")
+    void decodeInvalid() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(CanNotConvertException.class);
+    }
+
+    @Test
+    @DisplayName("size보다 많이 조회된 경우에만 다음 커서가 생성되고 초과분은 제외된다")
+    void cursorSlice() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 15, 10, 30);
+
+        //when
+        CursorSlice<Long> hasNext = CursorSlice.of(List.of(5L, 4L, 3L), 2, id -> new Cursor(createdAt, id));
+        CursorSlice<Long> last = CursorSlice.of(List.of(2L, 1L), 2, id -> new Cursor(createdAt, id));
+
+        //then
+        assertThat(hasNext.getContent()).containsExactly(5L, 4L);
+        assertThat(Cursor.decode(hasNext.getNextCursor()).getId()).isEqualTo(4L);
+        assertThat(last.getContent()).containsExactly(2L, 1L);
+        assertThat(last.hasNext()).isFalse();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.momobe.meeting.application;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.meeting.domain.MeetingException;
 import com.example.momobe.meeting.domain.enums.MeetingState;
+import com.example.momobe.meeting.event.MeetingChangedEvent.ChangeType;
 import com.example.momobe.reservation.domain.ReservationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import static com.example.momobe.meeting.enums.MeetingConstants.generateMeeting;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class MeetingCloseServiceTest {
@@ -29,6 +31,15 @@ class MeetingCloseServiceTest {
     @Mock
     ReservationRepository reservationRepository;
 
+    @Mock
+    MeetingEventPublishService meetingEventPublishService;
+
+    @Mock
+    MeetingParticipantCountService meetingParticipantCountService;
+
+    @Mock
+    SlotOccupancyService slotOccupancyService;
+
     @Test
     @DisplayName("Meeting의 hostId와 요청한 userId가 다르면 예외가 발생한다.")
     void closeMeetingTest1() throws Exception {
@@ -57,5 +68,6 @@ class MeetingCloseServiceTest {
 
         // then
         assertThat(meeting.getMeetingState()).isEqualTo(MeetingState.CLOSE);
+        then(meetingEventPublishService).should().publishChangedEvent(meetingId, ChangeType.CLOSED);
     }
 }
@@ -29,6 +29,10 @@ class MeetingRegistrationServiceTest {
     private MeetingRepository meetingRepository;
     @Mock
     private MeetingCommonService meetingCommonService;
+    @Mock
+    private MeetingEventPublishService meetingEventPublishService;
+    @Mock
+    private SlotOccupancyService slotOccupancyService;
 
     @Test
     void saveMeeting() {
@@ -26,6 +26,12 @@ class MeetingUpdateServiceTest {
     @Mock
     private MeetingCommonService meetingCommonService;
 
+    @Mock
+    private MeetingEventPublishService meetingEventPublishService;
+
+    @Mock
+    private SlotOccupancyService slotOccupancyService;
+
     @BeforeEach
     void init() throws NoSuchFieldException, IllegalAccessException {
         ReflectionUtil.setField(meetingUpdateService, "meetingMapper", new MeetingMapperImpl());
@@ -0,0 +1,89 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.common.config.JpaQueryFactoryConfig;
+import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.meeting.infarstructure.MeetingTagIndexImpl;
+import com.example.momobe.tag.domain.Tag;
+import com.example.momobe.user.domain.Avatar;
+import com.example.momobe.user.domain.User;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static com.example.momobe.common.enums.TestConstants.*;
+import static com.example.momobe.meeting.enums.MeetingConstants.generateMeeting;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureDataJpa
+@Import(JpaQueryFactoryConfig.class)
+@EnabledIfEnvironmentVariable(named = "Local", matches = "local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MeetingCountQueryRepositoryTest {
+    @Autowired
+    private EntityManager em;
+
+    private MeetingCountQueryRepository meetingCountQueryRepository;
+    private MeetingTagIndexImpl meetingTagIndex;
+
+    private Tag online;
+    private Tag offline;
+
+    @BeforeEach
+    void init() {
+        meetingTagIndex = new MeetingTagIndexImpl();
+        meetingTagIndex.markReady();
+        meetingCountQueryRepository = new MeetingCountQueryRepository(new JPAQueryFactory(em), null, meetingTagIndex);
+
+        User user = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(user);
+        online = new Tag("온라인");
+        offline = new Tag("오프라인");
+        em.persist(online);
+        em.persist(offline);
+        Meeting indexed = generateMeeting(user.getId(), List.of(), List.of(online.getId(), offline.getId()));
+        Meeting notIndexedYet = generateMeeting(user.getId(), List.of(), List.of(online.getId(), offline.getId()));
+        em.persist(indexed);
+        em.persist(notIndexedYet);
+        em.flush();
+        new MeetingSummarySourceQueryRepository(new JPAQueryFactory(em), new MeetingInfoLoader())
+                .generateSummaries(List.of(indexed.getId(), notIndexedYet.getId()))
+                .forEach(em::persist);
+        em.flush();
+
+        // 태그 색인 반영이 늦은 인스턴스처럼 한 모임만 색인한다
+        meetingTagIndex.index(indexed.getId(), List.of(online, offline));
+    }
+
+    @Test
+    @DisplayName("캐시에 저장하는 단일 태그 건수는 태그 색인이 늦더라도 요약 테이블로 센다")
+    void countTest1() {
+        // when
+        Long count = meetingCountQueryRepository.count(null, List.of("온라인"), null);
+
+        // then
+        assertThat(meetingCountQueryRepository.isCacheable(List.of("온라인"))).isTrue();
+        assertThat(count).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 태그나 여러 태그 조건은 캐시하지 않는다")
+    void isCacheableTest() {
+        // when, then
+        assertThat(meetingCountQueryRepository.isCacheable(List.of())).isTrue();
+        assertThat(meetingCountQueryRepository.isCacheable(List.of("없는태그"))).isFalse();
+        assertThat(meetingCountQueryRepository.isCacheable(List.of("온라인", "오프라인"))).isFalse();
+        assertThat(meetingCountQueryRepository.count(null, List.of("온라인", "오프라인"), TagMatch.AND)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.momobe.meeting.dao;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MeetingDao 쿼리의 실행 계획을 확인하기 위한 테스트 전용 매퍼
+ */
+@Mapper
+public interface MeetingDaoExplainMapper {
+    @Select("EXPLAIN " + MeetingDao.RESERVATION_SCHEDULE)
+    List<Map<String, Object>> explainReservationSchedule(@Param("meetingId") Long meetingId,
+                                                         @Param("from") LocalDateTime from,
+                                                         @Param("to") LocalDateTime to);
+}
@@ -22,9 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.example.momobe.common.enums.TestConstants.*;
@@ -44,6 +46,9 @@ class MeetingDaoTest {
 
     private DateTimeMapper dateTimeMapper;
 
+    @Autowired
+    private MeetingDaoExplainMapper meetingDaoExplainMapper;
+
     @Autowired
     private EntityManager em;
 
@@ -51,6 +56,8 @@ class MeetingDaoTest {
     private Meeting dayMeeting;
 
     private LocalDate startDate;
+    private LocalDateTime from;
+    private LocalDateTime to;
 
     private List<Reservation> freeReservations = new ArrayList<>();
     private List<Reservation> dayReservations = new ArrayList<>();
@@ -66,6 +73,8 @@ class MeetingDaoTest {
         }
 
         startDate = LocalDate.of(2022, 1, 1);
+        from = startDate.atStartOfDay();
+        to = from.plusMonths(1);
         MeetingRequestDto.DateTimeDto free = MeetingRequestDto.DateTimeDto.builder()
                 .datePolicy(FREE)
                 .maxTime(4)
@@ -176,7 +185,7 @@ class MeetingDaoTest {
     void getTimesTest_free1() {
         //given
         //when
-        List<ResponseMeetingDatesDto> result = meetingDao.getMonthlyReservationSchedule(freeMeeting.getId(), startDate.getMonthValue());
+        List<ResponseMeetingDatesDto> result = meetingDao.getReservationSchedule(freeMeeting.getId(), from, to);
 
         //then
         for (ResponseMeetingDatesDto t : result) {
@@ -190,7 +199,7 @@ class MeetingDaoTest {
     void getTimesTest_day2() {
         //given
         //when
-        List<ResponseMeetingDatesDto> result = meetingDao.getMonthlyReservationSchedule(freeMeeting.getId(), startDate.getMonthValue());
+        List<ResponseMeetingDatesDto> result = meetingDao.getReservationSchedule(freeMeeting.getId(), from, to);
 
         //then
         for (ResponseMeetingDatesDto responseMeetingDatesDto : result) {
@@ -209,7 +218,7 @@ class MeetingDaoTest {
     void getTimesTest_day1() {
         //given
         //when
-        List<ResponseMeetingDatesDto> result = meetingDao.getMonthlyReservationSchedule(dayMeeting.getId(), startDate.getMonthValue());
+        List<ResponseMeetingDatesDto> result = meetingDao.getReservationSchedule(dayMeeting.getId(), from, to);
 
         //then
         assertThat(result.size()).isEqualTo(20);
@@ -220,7 +229,7 @@ class MeetingDaoTest {
     void getTimesTest_free2() {
         //given
         //when
-        List<ResponseMeetingDatesDto> result = meetingDao.getMonthlyReservationSchedule(dayMeeting.getId(), startDate.getMonthValue());
+        List<ResponseMeetingDatesDto> result = meetingDao.getReservationSchedule(dayMeeting.getId(), from, to);
 
         //then
         for (ResponseMeetingDatesDto responseMeetingDatesDto : result) {
@@ -228,4 +237,72 @@ class MeetingDaoTest {
             assertThat(responseMeetingDatesDto.getAvailability()).isEqualTo("true");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("다른 해의 같은 월 일정은 조회하지 않는다.")
+    void getTimesTest_year() {
+        //given
+        em.flush();
+
+        //when
+        List<ResponseMeetingDatesDto> nextYear = meetingDao.getReservationSchedule(dayMeeting.getId(), from.plusYears(1), to.plusYears(1));
+        List<ResponseMeetingDatesDto> nextMonth = meetingDao.getReservationSchedule(dayMeeting.getId(), to, to.plusMonths(1));
+
+        //then
+        assertThat(nextYear).isEmpty();
+        assertThat(nextMonth).isEmpty();
+    }
+
+    @Test
+    @DisplayName("월별 일정 조회는 일정과 예약을 복합 인덱스 범위로 읽는다.")
+    void getTimesTest_explain() {
+        //given
+        em.flush();
+
+        //when
+        List<Map<String, Object>> plan = meetingDaoExplainMapper.explainReservationSchedule(freeMeeting.getId(), from, to);
+
+        //then
+        assertThat(plan).filteredOn(row -> "dt".equals(row.get("table")))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.get("key")).isEqualTo("idx_date_time_meeting_id_date_time");
+                    assertThat(row.get("type")).isEqualTo("range");
+                });
+        assertThat(plan).filteredOn(row -> "r".equals(row.get("table")))
+                .singleElement()
+                .satisfies(row -> assertThat(row.get("key")).isEqualTo("idx_reservation_meeting_id_state_start"));
+    }
+
+    @Test
+    @DisplayName("current_participants 는 원자적으로 증감하며 0 미만으로 내려가지 않는다.")
+    void addCurrentParticipantsTest() {
+        //given
+        em.flush();
+
+        //when
+        meetingDao.addCurrentParticipants(freeMeeting.getId(), 2L);
+        meetingDao.addCurrentParticipants(freeMeeting.getId(), -1L);
+        meetingDao.addCurrentParticipants(dayMeeting.getId(), -1L);
+        em.clear();
+
+        //then
+        assertThat(em.find(Meeting.class, freeMeeting.getId()).getCurrentParticipants()).isEqualTo(1L);
+        assertThat(em.find(Meeting.class, dayMeeting.getId()).getCurrentParticipants()).isZero();
+    }
+
+    @Test
+    @DisplayName("보정 시 신청 확정 대기, 참여 확정 상태의 예약 수로 current_participants 를 다시 계산한다.")
+    void reconcileCurrentParticipantsTest() {
+        //given
+        em.flush();
+
+        //when
+        meetingDao.reconcileCurrentParticipants();
+        em.clear();
+
+        //then
+        assertThat(em.find(Meeting.class, freeMeeting.getId()).getCurrentParticipants()).isEqualTo(20L);
+        assertThat(em.find(Meeting.class, dayMeeting.getId()).getCurrentParticipants()).isEqualTo(20L);
+    }
+}
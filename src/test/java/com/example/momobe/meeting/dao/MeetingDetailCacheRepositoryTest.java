@@ -0,0 +1,142 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingVersionStore;
+import com.example.momobe.meeting.dto.out.MeetingDetailResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.momobe.common.enums.TestConstants.ID1;
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_DETAIL_CACHE;
+import static com.example.momobe.meeting.domain.enums.MeetingDetailSection.QUESTIONS;
+import static com.example.momobe.meeting.domain.enums.MeetingDetailSection.TAGS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingDetailCacheRepositoryTest {
+    @Mock
+    private MeetingDetailQueryRepository meetingDetailQueryRepository;
+
+    @Mock
+    private MeetingVersionStore meetingVersionStore;
+
+    private MeetingDetailCacheRepository meetingDetailCacheRepository;
+
+    @BeforeEach
+    void init() {
+        meetingDetailCacheRepository = new MeetingDetailCacheRepository(
+                meetingDetailQueryRepository, meetingVersionStore,
+                new MeetingQueryExecutor(Runnable::run, null, false, 0),
+                new ConcurrentMapCacheManager(MEETING_DETAIL_CACHE));
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 캐시에서 조회하고 버전이 바뀌면 다시 조회한다")
+    void findByIdTest1() {
+        // given
+        MeetingDetailResponseDto dto = mock(MeetingDetailResponseDto.class);
+        given(meetingDetailQueryRepository.findById(eq(ID1), any())).willReturn(dto);
+        given(meetingVersionStore.getVersion(ID1)).willReturn(0L, 0L, 1L);
+
+        // when
+        meetingDetailCacheRepository.findById(ID1);
+        meetingDetailCacheRepository.findById(ID1);
+        MeetingDetailResponseDto result = meetingDetailCacheRepository.findById(ID1);
+
+        // then
+        verify(meetingDetailQueryRepository, times(2)).findById(eq(ID1), any());
+        assertThat(result).isSameAs(dto);
+    }
+
+    @Test
+    @DisplayName("같은 키에 대한 동시 캐시 미스는 한 번만 조회한다")
+    void findByIdTest2() throws Exception {
+        // given
+        int threadCount = 8;
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        MeetingDetailResponseDto dto = mock(MeetingDetailResponseDto.class);
+        given(meetingVersionStore.getVersion(ID1)).willReturn(0L);
+        given(meetingDetailQueryRepository.findById(eq(ID1), any())).willAnswer(invocation -> {
+            Thread.sleep(300);
+            return dto;
+        });
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<MeetingDetailResponseDto>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                ready.countDown();
+                ready.await();
+                return meetingDetailCacheRepository.findById(ID1);
+            }));
+        }
+        for (Future<MeetingDetailResponseDto> result : results) {
+            assertThat(result.get()).isSameAs(dto);
+        }
+        executorService.shutdown();
+
+        // then
+        verify(meetingDetailQueryRepository, times(1)).findById(eq(ID1), any());
+    }
+
+    @Test
+    @DisplayName("조회 항목 조합이 다르면 따로 캐시한다")
+    void findByIdTest3() {
+        // given
+        MeetingDetailResponseDto dto = mock(MeetingDetailResponseDto.class);
+        given(meetingDetailQueryRepository.findById(eq(ID1), any())).willReturn(dto);
+
+        // when
+        meetingDetailCacheRepository.findById(ID1, 0L, EnumSet.of(TAGS));
+        meetingDetailCacheRepository.findById(ID1, 0L, EnumSet.of(TAGS));
+        meetingDetailCacheRepository.findById(ID1, 0L, EnumSet.of(TAGS, QUESTIONS));
+
+        // then
+        verify(meetingDetailQueryRepository, times(1)).findById(ID1, EnumSet.of(TAGS));
+        verify(meetingDetailQueryRepository, times(1)).findById(ID1, EnumSet.of(TAGS, QUESTIONS));
+    }
+
+    @Test
+    @DisplayName("캐시 항목을 읽지 못하면 캐시 미스로 보고 다시 조회한다")
+    void findByIdTest4() {
+        // given
+        Cache cache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        given(cacheManager.getCache(MEETING_DETAIL_CACHE)).willReturn(cache);
+        given(cache.get(any(), eq(MeetingDetailResponseDto.class))).willThrow(new SerializationException("incompatible"));
+        MeetingDetailResponseDto dto = mock(MeetingDetailResponseDto.class);
+        given(meetingDetailQueryRepository.findById(ID1, EnumSet.of(TAGS))).willReturn(dto);
+        MeetingDetailCacheRepository repository = new MeetingDetailCacheRepository(
+                meetingDetailQueryRepository, meetingVersionStore,
+                new MeetingQueryExecutor(Runnable::run, null, false, 0), cacheManager);
+
+        // when
+        MeetingDetailResponseDto result = repository.findById(ID1, 0L, EnumSet.of(TAGS));
+
+        // then
+        assertThat(result).isSameAs(dto);
+        verify(cache).put(any(), eq(dto));
+    }
+}
@@ -6,6 +6,7 @@ import com.example.momobe.answer.domain.Content;
 import com.example.momobe.answer.domain.Writer;
 import com.example.momobe.common.config.JpaQueryFactoryConfig;
 import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.meeting.domain.MeetingException;
 import com.example.momobe.meeting.domain.enums.MeetingState;
 import com.example.momobe.meeting.dto.out.MeetingDetailResponseDto;
 import com.example.momobe.question.domain.Question;
@@ -14,7 +15,10 @@ import com.example.momobe.tag.domain.Tag;
 import com.example.momobe.user.domain.Avatar;
 import com.example.momobe.user.domain.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,11 +28,15 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static com.example.momobe.common.enums.TestConstants.*;
 import static com.example.momobe.meeting.enums.MeetingConstants.generateMeeting;
+import static com.example.momobe.meeting.enums.MeetingConstants.generateMeetingWithDates;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @AutoConfigureDataJpa
@@ -45,7 +53,8 @@ class MeetingDetailQueryRepositoryTest {
     void init() {
         JPAQueryFactory queryFactory = new JPAQueryFactory(em);
         QuestionQueryRepository questionQueryRepository = new QuestionQueryRepository(queryFactory);
-        meetingDetailQueryRepository = new MeetingDetailQueryRepository(queryFactory, questionQueryRepository);
+        meetingDetailQueryRepository = new MeetingDetailQueryRepository(
+                queryFactory, questionQueryRepository, new MeetingQueryExecutor(Runnable::run, null, false, 0));
     }
 
     @Test
@@ -132,4 +141,78 @@ class MeetingDetailQueryRepositoryTest {
         assertThat(responseDto.getQuestions().get(0).getAnswers().get(0).getModifiedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("상세 조회는 주소/태그/일정/질문을 나눠 조회해 조인 시의 row 곱만큼 읽지 않는다")
+    void meetingDetailQuerySplit() throws Exception {
+        // given
+        User host = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(host);
+        User questioner = new User(EMAIL2, NICKNAME, PASSWORD2, new Avatar(REMOTE_PATH));
+        em.persist(questioner);
+        List<Long> addressIds = new ArrayList<>();
+        for (String gu : List.of("강남구", "강북구", "강서구")) {
+            Address saved = Address.builder()
+                    .si("서울시")
+                    .gu(gu)
+                    .build();
+            em.persist(saved);
+            addressIds.add(saved.getId());
+        }
+        List<Long> tagIds = new ArrayList<>();
+        for (String name : List.of("온라인", "오프라인", "개발", "운동", "독서")) {
+            Tag saved = new Tag(name);
+            em.persist(saved);
+            tagIds.add(saved.getId());
+        }
+        Meeting saved = generateMeetingWithDates(host.getId(), addressIds, tagIds, 20);
+        em.persist(saved);
+        for (int i = 0; i < 30; i++) {
+            Question savedQuestion = new Question(saved.getId(), CONTENT1, questioner.getId());
+            em.persist(savedQuestion);
+            em.persist(new Answer(
+                    new Content(CONTENT2),
+                    new com.example.momobe.answer.domain.Meeting(saved.getId()),
+                    new Writer(host.getId()),
+                    new com.example.momobe.answer.domain.Question(savedQuestion.getId())));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = enableStatistics();
+
+        // when
+        MeetingDetailResponseDto responseDto = meetingDetailQueryRepository.findById(saved.getId());
+
+        // then
+        long maxRowCount = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .max()
+                .orElse(0L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6L);
+        assertThat(maxRowCount).isLessThanOrEqualTo(30L);
+        assertThat(responseDto.getAddressIds()).hasSize(3);
+        assertThat(responseDto.getTags()).hasSize(5);
+        assertThat(responseDto.getDateTime().getDates()).hasSize(20);
+        assertThat(responseDto.getQuestions()).hasSize(30);
+        assertThat(responseDto.getQuestions()).allMatch(dto -> dto.getAnswers().size() == 1);
+    }
+
+    @Test
+    @DisplayName("없는 모임은 주소/태그/일정/질문을 조회하지 않고 예외가 발생한다")
+    void meetingDetailQueryNotFound() throws Exception {
+        // given
+        Statistics statistics = enableStatistics();
+
+        // when / then
+        assertThatThrownBy(() -> meetingDetailQueryRepository.findById(ID1))
+                .isInstanceOf(MeetingException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    private Statistics enableStatistics() {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
 }
@@ -2,12 +2,15 @@ package com.example.momobe.meeting.dao;
 
 import com.example.momobe.address.domain.Address;
 import com.example.momobe.common.config.JpaQueryFactoryConfig;
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.meeting.dto.out.MeetingHostResponseDto;
 import com.example.momobe.user.domain.Avatar;
 import com.example.momobe.user.domain.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +23,9 @@ import org.springframework.data.domain.PageRequest;
 
 import javax.persistence.EntityManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static com.example.momobe.common.enums.TestConstants.*;
@@ -38,9 +44,13 @@ class MeetingHostQueryRepositoryTest {
 
     private MeetingHostQueryRepository meetingHostQueryRepository;
 
+    private MeetingSummarySourceQueryRepository meetingSummarySourceQueryRepository;
+
     @BeforeEach
     void init() {
-        meetingHostQueryRepository = new MeetingHostQueryRepository(new JPAQueryFactory(em), new MeetingQueryFactoryUtil());
+        meetingHostQueryRepository = new MeetingHostQueryRepository(
+                new JPAQueryFactory(em), new MeetingQueryFactoryUtil(), new MeetingQueryExecutor(Runnable::run, null, false, 0));
+        meetingSummarySourceQueryRepository = new MeetingSummarySourceQueryRepository(new JPAQueryFactory(em), new MeetingInfoLoader());
     }
 
     @Test
@@ -63,6 +73,7 @@ class MeetingHostQueryRepositoryTest {
         em.persist(generateAcceptReservation(user.getId(), meeting.getId()));
         em.persist(generatePaymentSuccessReservation(user.getId(), meeting.getId()));
         em.persist(generateDenyReservation(user.getId(), meeting.getId()));
+        meetingSummarySourceQueryRepository.generateSummaries(List.of(meeting.getId())).forEach(em::persist);
 
         // when
         Page<MeetingHostResponseDto> meetings =
@@ -73,4 +84,39 @@ class MeetingHostQueryRepositoryTest {
         assertThat(meetings.getContent()).isNotNull();
         assertThat(meetings.getContent()).isNotEmpty();
     }
+
+    @Test
+    @DisplayName("커서 조회는 생성 시각이 같으면 id 순으로 이어서 조회하고 마지막 페이지에는 다음 커서가 없다")
+    void meetingHostCursorQueryWithSameCreatedAt() throws Exception {
+        // given
+        User user = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(user);
+        List<Long> meetingIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Meeting meeting = generateMeeting(user.getId(), List.of());
+            em.persist(meeting);
+            meetingIds.add(meeting.getId());
+        }
+        meetingSummarySourceQueryRepository.generateSummaries(meetingIds).forEach(em::persist);
+        em.flush();
+        em.createQuery("update MeetingSummary s set s.createdAt = :createdAt where s.meetingId in :meetingIds")
+                .setParameter("createdAt", LocalDateTime.of(2022, 1, 1, 0, 0))
+                .setParameter("meetingIds", meetingIds)
+                .executeUpdate();
+        em.clear();
+        meetingIds.sort(Comparator.reverseOrder());
+
+        // when
+        CursorSlice<MeetingHostResponseDto> first = meetingHostQueryRepository.findAll(user.getId(), null, 2);
+        CursorSlice<MeetingHostResponseDto> last =
+                meetingHostQueryRepository.findAll(user.getId(), Cursor.decode(first.getNextCursor()), 2);
+
+        // then
+        assertThat(first.getContent()).extracting(MeetingHostResponseDto::getMeetingId)
+                .containsExactly(meetingIds.get(0), meetingIds.get(1));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(MeetingHostResponseDto::getMeetingId)
+                .containsExactly(meetingIds.get(2));
+        assertThat(last.getNextCursor()).isNull();
+    }
 }
\ No newline at end of file
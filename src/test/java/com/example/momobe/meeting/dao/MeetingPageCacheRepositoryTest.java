@@ -0,0 +1,129 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.dto.out.MeetingPageDto;
+import com.example.momobe.meeting.dto.out.MeetingResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static com.example.momobe.common.enums.TestConstants.TITLE1;
+import static com.example.momobe.meeting.constants.MeetingConstants.MEETING_PAGE_CACHE;
+import static com.example.momobe.meeting.domain.enums.Category.SOCIAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingPageCacheRepositoryTest {
+    @Mock
+    private MeetingQueryRepository meetingQueryRepository;
+
+    @Mock
+    private MeetingTagIndex meetingTagIndex;
+
+    private MeetingPageCacheRepository meetingPageCacheRepository;
+
+    @BeforeEach
+    void init() {
+        meetingPageCacheRepository = new MeetingPageCacheRepository(
+                meetingQueryRepository, new MeetingQueryFactoryUtil(), meetingTagIndex, new ConcurrentMapCacheManager(MEETING_PAGE_CACHE));
+        ReflectionTestUtils.setField(meetingPageCacheRepository, "maxCachedPage", 3);
+        ReflectionTestUtils.setField(meetingPageCacheRepository, "defaultPageSize", 10);
+    }
+
+    @Test
+    @DisplayName("검색어가 없는 앞쪽 페이지는 두 번째 요청부터 캐시에서 조회한다")
+    void findAllTest1() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        given(meetingTagIndex.containsTag("온라인")).willReturn(true);
+        given(meetingQueryRepository.findAll(isNull(), eq(SOCIAL), eq(List.of("온라인")), isNull(), eq(pageRequest)))
+                .willReturn(new PageImpl<>(List.of(), pageRequest, 7L));
+
+        // when
+        meetingPageCacheRepository.findAll(null, SOCIAL, List.of(" 온라인"), null, pageRequest);
+        Page<MeetingResponseDto> result = meetingPageCacheRepository.findAll(null, SOCIAL, List.of("온라인"), null, pageRequest);
+
+        // then
+        verify(meetingQueryRepository, times(1)).findAll(any(), any(), any(), any(), any(PageRequest.class));
+        assertThat(result.getTotalElements()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("검색어가 있거나 캐시 대상 페이지를 넘으면 매번 조회한다")
+    void findAllTest2() {
+        // given
+        given(meetingQueryRepository.findAll(any(), any(), any(), any(), any(PageRequest.class)))
+                .willReturn(Page.empty());
+
+        // when
+        meetingPageCacheRepository.findAll(TITLE1, null, null, null, PageRequest.of(0, 10));
+        meetingPageCacheRepository.findAll(TITLE1, null, null, null, PageRequest.of(0, 10));
+        meetingPageCacheRepository.findAll(null, null, null, null, PageRequest.of(3, 10));
+        meetingPageCacheRepository.findAll(null, null, null, null, PageRequest.of(3, 10));
+
+        // then
+        verify(meetingQueryRepository, times(4)).findAll(any(), any(), any(), any(), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 태그나 기본 크기가 아닌 페이지는 캐시하지 않는다")
+    void findAllTest3() {
+        // given
+        given(meetingTagIndex.containsTag("임의태그")).willReturn(false);
+        given(meetingQueryRepository.findAll(any(), any(), any(), any(), any(PageRequest.class)))
+                .willReturn(Page.empty());
+
+        // when
+        meetingPageCacheRepository.findAll(null, null, List.of("임의태그"), null, PageRequest.of(0, 10));
+        meetingPageCacheRepository.findAll(null, null, List.of("임의태그"), null, PageRequest.of(0, 10));
+        meetingPageCacheRepository.findAll(null, null, null, null, PageRequest.of(0, 2000));
+        meetingPageCacheRepository.findAll(null, null, null, null, PageRequest.of(0, 2000));
+
+        // then
+        verify(meetingQueryRepository, times(4)).findAll(any(), any(), any(), any(), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("캐시 항목을 읽지 못하면 캐시 미스로 보고 조회한다")
+    void findAllTest4() {
+        // given
+        Cache cache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        given(cacheManager.getCache(MEETING_PAGE_CACHE)).willReturn(cache);
+        given(cache.get(any(), eq(MeetingPageDto.class))).willThrow(new SerializationException("incompatible"));
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        given(meetingQueryRepository.findAll(isNull(), isNull(), eq(List.of()), isNull(), eq(pageRequest)))
+                .willReturn(new PageImpl<>(List.of(), pageRequest, 7L));
+        MeetingPageCacheRepository repository = new MeetingPageCacheRepository(
+                meetingQueryRepository, new MeetingQueryFactoryUtil(), meetingTagIndex, cacheManager);
+        ReflectionTestUtils.setField(repository, "maxCachedPage", 3);
+        ReflectionTestUtils.setField(repository, "defaultPageSize", 10);
+
+        // when
+        Page<MeetingResponseDto> result = repository.findAll(null, null, null, null, pageRequest);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(7L);
+        verify(cache).put(any(), any(MeetingPageDto.class));
+    }
+}
@@ -2,12 +2,18 @@ package com.example.momobe.meeting.dao;
 
 import com.example.momobe.address.domain.Address;
 import com.example.momobe.common.config.JpaQueryFactoryConfig;
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.meeting.dto.out.MeetingParticipantResponseDto;
+import com.example.momobe.reservation.domain.Reservation;
 import com.example.momobe.user.domain.Avatar;
 import com.example.momobe.user.domain.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,11 +25,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import static com.example.momobe.common.enums.TestConstants.*;
 import static com.example.momobe.common.enums.TestConstants.REMOTE_PATH;
 import static com.example.momobe.meeting.enums.MeetingConstants.generateMeeting;
+import static com.example.momobe.meeting.enums.MeetingConstants.generateMeetingWithDates;
 import static com.example.momobe.reservation.enums.ReservationConstants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,9 +49,13 @@ class MeetingParticipantQueryRepositoryTest {
 
     private MeetingParticipantQueryRepository meetingParticipantQueryRepository;
 
+    private MeetingSummarySourceQueryRepository meetingSummarySourceQueryRepository;
+
     @BeforeEach
     void init() {
-        meetingParticipantQueryRepository = new MeetingParticipantQueryRepository(new JPAQueryFactory(em));
+        meetingParticipantQueryRepository = new MeetingParticipantQueryRepository(
+                new JPAQueryFactory(em), new MeetingQueryFactoryUtil(), new MeetingQueryExecutor(Runnable::run, null, false, 0));
+        meetingSummarySourceQueryRepository = new MeetingSummarySourceQueryRepository(new JPAQueryFactory(em), new MeetingInfoLoader());
     }
 
     @Test
@@ -69,6 +84,7 @@ class MeetingParticipantQueryRepositoryTest {
         em.persist(meeting2);
         em.persist(generatePaymentSuccessReservation(participant.getId(), meeting1.getId()));
         em.persist(generateDenyReservation(participant.getId(), meeting2.getId()));
+        meetingSummarySourceQueryRepository.generateSummaries(List.of(meeting1.getId(), meeting2.getId())).forEach(em::persist);
 
         // when
         Page<MeetingParticipantResponseDto> meetings =
@@ -80,4 +96,88 @@ class MeetingParticipantQueryRepositoryTest {
         assertThat(meetings.getContent()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("목록의 주소/일정 조회는 예약 수만큼 row 가 늘어나지 않는다")
+    void meetingParticipantQueryWithoutRowBlowup() throws Exception {
+        // given
+        User host = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(host);
+        List<Long> addressIds = new ArrayList<>();
+        for (String gu : List.of("강남구", "강북구", "강서구")) {
+            Address address = Address.builder()
+                    .si("서울시")
+                    .gu(gu)
+                    .build();
+            em.persist(address);
+            addressIds.add(address.getId());
+        }
+        User participant = new User(EMAIL2, NICKNAME2, PASSWORD2, new Avatar(TISTORY_URL));
+        em.persist(participant);
+        Meeting meeting = generateMeetingWithDates(host.getId(), addressIds, List.of(), 5);
+        em.persist(meeting);
+        em.persist(generateAcceptReservation(participant.getId(), meeting.getId()));
+        for (long userId = 1; userId <= 20; userId++) {
+            em.persist(generatePaymentSuccessReservation(userId, meeting.getId()));
+        }
+        meetingSummarySourceQueryRepository.generateSummaries(List.of(meeting.getId())).forEach(em::persist);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        Page<MeetingParticipantResponseDto> meetings =
+                meetingParticipantQueryRepository.findAll(participant.getId(), PageRequest.of(0, 3));
+
+        // then
+        long maxRowCount = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .max()
+                .orElse(0L);
+        assertThat(maxRowCount).isLessThanOrEqualTo(5L);
+        assertThat(meetings.getContent().get(0).getAddress().getAddresses()).hasSize(3);
+        assertThat(meetings.getContent().get(0).getDateTime().getDates()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("커서 조회는 예약 시각이 같으면 예약 id 순으로 이어서 조회하고 마지막 페이지에는 다음 커서가 없다")
+    void meetingParticipantCursorQueryWithSameCreatedAt() throws Exception {
+        // given
+        User host = new User(EMAIL1, NICKNAME1, PASSWORD1, new Avatar(GITHUB_URL));
+        User participant = new User(EMAIL, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(host);
+        em.persist(participant);
+        Meeting meeting = generateMeeting(host.getId(), List.of());
+        em.persist(meeting);
+        List<Long> reservationIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Reservation reservation = generateAcceptReservation(participant.getId(), meeting.getId());
+            em.persist(reservation);
+            reservationIds.add(reservation.getId());
+        }
+        meetingSummarySourceQueryRepository.generateSummaries(List.of(meeting.getId())).forEach(em::persist);
+        em.flush();
+        em.createNativeQuery("update reservation set created_at = :createdAt where reservation_id in (:reservationIds)")
+                .setParameter("createdAt", LocalDateTime.of(2022, 1, 1, 0, 0))
+                .setParameter("reservationIds", reservationIds)
+                .executeUpdate();
+        em.clear();
+        reservationIds.sort(Comparator.reverseOrder());
+
+        // when
+        CursorSlice<MeetingParticipantResponseDto> first =
+                meetingParticipantQueryRepository.findAll(participant.getId(), null, 2);
+        CursorSlice<MeetingParticipantResponseDto> last =
+                meetingParticipantQueryRepository.findAll(participant.getId(), Cursor.decode(first.getNextCursor()), 2);
+
+        // then
+        assertThat(first.getContent()).extracting(dto -> dto.getApplication().getReservationId())
+                .containsExactly(reservationIds.get(0), reservationIds.get(1));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(dto -> dto.getApplication().getReservationId())
+                .containsExactly(reservationIds.get(2));
+        assertThat(last.getNextCursor()).isNull();
+    }
 }
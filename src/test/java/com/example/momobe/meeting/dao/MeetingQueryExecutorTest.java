@@ -0,0 +1,106 @@
+package com.example.momobe.meeting.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+
+class MeetingQueryExecutorTest {
+    private static final String QUERY_THREAD = "QueryThread";
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, QUERY_THREAD));
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("병렬 실행 시 건수 쿼리는 queryTaskExecutor 에서 목록 조회와 동시에 실행된다")
+    void fetchPageParallelTest() {
+        // given
+        MeetingQueryExecutor parallel = new MeetingQueryExecutor(executorService, mock(PlatformTransactionManager.class), true, 1);
+        CountDownLatch countStarted = new CountDownLatch(1);
+        AtomicReference<String> countThread = new AtomicReference<>();
+
+        // when
+        Page<Long> page = parallel.fetchPage(
+                () -> await(countStarted) ? List.of(1L, 2L) : List.of(),
+                dtos -> {},
+                PageRequest.of(0, 2),
+                () -> {
+                    countThread.set(Thread.currentThread().getName());
+                    countStarted.countDown();
+                    return 10L;
+                });
+
+        // then
+        assertThat(countThread.get()).isEqualTo(QUERY_THREAD);
+        assertThat(page.getContent()).containsExactly(1L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("동시 작업 수가 한도에 닿으면 건수 쿼리는 호출 스레드에서 실행된다")
+    void fetchPageOverLimitTest() {
+        // given
+        MeetingQueryExecutor parallel = new MeetingQueryExecutor(executorService, mock(PlatformTransactionManager.class), true, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = parallel.submit(() -> await(release));
+        AtomicReference<Thread> countThread = new AtomicReference<>();
+
+        // when
+        Page<Long> page = parallel.fetchPage(
+                () -> List.of(1L, 2L),
+                dtos -> {},
+                PageRequest.of(0, 2),
+                () -> {
+                    countThread.set(Thread.currentThread());
+                    return 10L;
+                });
+        release.countDown();
+
+        // then
+        assertThat(countThread.get()).isSameAs(Thread.currentThread());
+        assertThat(page.getTotalElements()).isEqualTo(10L);
+        assertThat(parallel.join(running)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 발생한 예외는 원래 예외로 전달된다")
+    void joinExceptionTest() {
+        // given
+        MeetingQueryExecutor parallel = new MeetingQueryExecutor(executorService, mock(PlatformTransactionManager.class), true, 1);
+
+        // when
+        Throwable thrown = catchThrowable(() -> parallel.join(parallel.submit(() -> {
+            throw new IllegalStateException();
+        })));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
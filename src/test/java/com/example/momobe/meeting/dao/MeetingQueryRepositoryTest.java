@@ -2,11 +2,22 @@ package com.example.momobe.meeting.dao;
 
 import com.example.momobe.address.domain.Address;
 import com.example.momobe.common.config.JpaQueryFactoryConfig;
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
+import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.meeting.dto.out.MeetingBatchResponseDto;
 import com.example.momobe.meeting.dto.out.MeetingResponseDto;
+import com.example.momobe.meeting.infarstructure.MeetingSearchIndexImpl;
+import com.example.momobe.meeting.infarstructure.MeetingTagIndexImpl;
+import com.example.momobe.tag.domain.Tag;
 import com.example.momobe.user.domain.Avatar;
 import com.example.momobe.user.domain.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,11 +30,19 @@ import org.springframework.data.domain.PageRequest;
 
 import javax.persistence.EntityManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import static com.example.momobe.common.enums.TestConstants.*;
 import static com.example.momobe.common.enums.TestConstants.PASSWORD1;
+import static com.example.momobe.meeting.constants.MeetingConstants.IN_CLAUSE_LIMIT;
+import static com.example.momobe.meeting.domain.QMeeting.meeting;
 import static com.example.momobe.meeting.enums.MeetingConstants.generateMeeting;
+import static com.example.momobe.meeting.enums.MeetingConstants.generateMeetingWithDates;
+import static com.example.momobe.reservation.enums.ReservationConstants.generatePaymentSuccessReservation;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -36,10 +55,32 @@ class MeetingQueryRepositoryTest {
     private EntityManager em;
 
     private MeetingQueryRepository meetingQueryRepository;
+    private MeetingSearchIndexImpl meetingSearchIndex;
+    private MeetingTagIndexImpl meetingTagIndex;
+    private MeetingSummarySourceQueryRepository meetingSummarySourceQueryRepository;
 
     @BeforeEach
     void init() {
-        meetingQueryRepository = new MeetingQueryRepository(new JPAQueryFactory(em), new MeetingQueryFactoryUtil());
+        meetingSearchIndex = new MeetingSearchIndexImpl();
+        meetingTagIndex = new MeetingTagIndexImpl();
+        meetingTagIndex.markReady();
+        meetingQueryRepository = createRepository(meetingTagIndex);
+        meetingSummarySourceQueryRepository = new MeetingSummarySourceQueryRepository(new JPAQueryFactory(em), new MeetingInfoLoader());
+    }
+
+    private MeetingQueryRepository createRepository(MeetingTagIndexImpl tagIndex) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(em);
+        return new MeetingQueryRepository(
+                queryFactory, new MeetingQueryFactoryUtil(),
+                new MeetingCountQueryRepository(queryFactory, null, tagIndex), meetingSearchIndex, tagIndex,
+                new MeetingQueryExecutor(Runnable::run, null, false, 0));
+    }
+
+    private void persistSummaries() {
+        em.flush();
+        List<Long> meetingIds = new JPAQueryFactory(em).select(meeting.id).from(meeting).fetch();
+        meetingSummarySourceQueryRepository.generateSummaries(meetingIds).forEach(em::persist);
+        em.flush();
     }
 
     @Test
@@ -58,10 +99,11 @@ class MeetingQueryRepositoryTest {
         em.persist(address1);
         em.persist(address2);
         em.persist(generateMeeting(user.getId(), List.of(address1.getId(), address2.getId())));
+        persistSummaries();
 
         // when
         Page<MeetingResponseDto> meetings =
-                meetingQueryRepository.findAll(null, null, null, PageRequest.of(0, 3));
+                meetingQueryRepository.findAll(null, null, null, null, PageRequest.of(0, 3));
 
         // then
         assertThat(meetings).isNotNull();
@@ -69,4 +111,274 @@ class MeetingQueryRepositoryTest {
         assertThat(meetings.getContent()).isNotEmpty();
     }
 
-}
\ No newline at end of file
+    private void persistSearchableMeetings(int count) {
+        User user = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(user);
+        for (int i = 0; i < count; i++) {
+            Meeting saved = generateMeeting(user.getId(), List.of());
+            em.persist(saved);
+            meetingSearchIndex.index(saved.getId(), saved.getTitle() + i, saved.getContent(), saved.getMeetingState());
+        }
+        persistSummaries();
+        em.clear();
+    }
+
+    private Long countByLike(String keyword) {
+        return new JPAQueryFactory(em)
+                .select(meeting.count())
+                .from(meeting)
+                .where(meeting.title.contains(keyword).or(meeting.content.contains(keyword)))
+                .fetchOne();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 결과가 IN_CLAUSE_LIMIT 보다 많아도 전체 건수와 마지막 페이지를 조회한다")
+    void keywordSearchOverLimit() throws Exception {
+        // given
+        persistSearchableMeetings(IN_CLAUSE_LIMIT + 5);
+        meetingSearchIndex.markReady();
+        String keyword = "제목";
+
+        // when
+        Page<MeetingResponseDto> lastPage =
+                meetingQueryRepository.findAll(keyword, null, null, null, PageRequest.of(IN_CLAUSE_LIMIT / 10, 10));
+
+        // then
+        assertThat(lastPage.getTotalElements()).isEqualTo(IN_CLAUSE_LIMIT + 5L);
+        assertThat(lastPage.getTotalElements()).isEqualTo(countByLike(keyword));
+        assertThat(lastPage.getContent()).hasSize(5);
+        assertThat(lastPage.isLast()).isTrue();
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비되면 키워드 조회와 건수 조회에 LIKE 조건을 사용하지 않는다")
+    void keywordSearchWithoutLike() throws Exception {
+        // given
+        persistSearchableMeetings(15);
+        meetingSearchIndex.markReady();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        Page<MeetingResponseDto> meetings =
+                meetingQueryRepository.findAll("제목", null, null, null, PageRequest.of(1, 10));
+
+        // then
+        assertThat(meetings.getTotalElements()).isEqualTo(15L);
+        assertThat(statistics.getQueries()).isNotEmpty()
+                .noneMatch(query -> query.toLowerCase().contains(" like "));
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비되기 전에는 LIKE 검색으로 조회한다")
+    void keywordSearchBeforeIndexReady() throws Exception {
+        // given
+        persistSearchableMeetings(15);
+        String keyword = "제목";
+
+        // when
+        Page<MeetingResponseDto> meetings =
+                meetingQueryRepository.findAll(keyword, null, null, null, PageRequest.of(1, 10));
+
+        // then
+        assertThat(meetings.getTotalElements()).isEqualTo(15L).isEqualTo(countByLike(keyword));
+        assertThat(meetings.getContent()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("목록의 주소/일정 조회는 예약 수만큼 row 가 늘어나지 않는다")
+    void meetingQueryWithoutRowBlowup() throws Exception {
+        // given
+        User host = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(host);
+        List<Long> addressIds = new ArrayList<>();
+        for (String gu : List.of("강남구", "강북구", "강서구")) {
+            Address address = Address.builder()
+                    .si("서울시")
+                    .gu(gu)
+                    .build();
+            em.persist(address);
+            addressIds.add(address.getId());
+        }
+        Meeting meeting = generateMeetingWithDates(host.getId(), addressIds, List.of(), 5);
+        em.persist(meeting);
+        for (long userId = 1; userId <= 20; userId++) {
+            em.persist(generatePaymentSuccessReservation(userId, meeting.getId()));
+        }
+        persistSummaries();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        Page<MeetingResponseDto> meetings =
+                meetingQueryRepository.findAll(null, null, null, null, PageRequest.of(0, 3));
+
+        // then
+        long maxRowCount = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .max()
+                .orElse(0L);
+        assertThat(maxRowCount).isLessThanOrEqualTo(5L);
+        assertThat(meetings.getContent().get(0).getAddress().getAddresses()).hasSize(3);
+        assertThat(meetings.getContent().get(0).getDateTime().getDates()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("태그 조건이 있으면 전체 건수도 태그 조건으로 계산한다")
+    void meetingQueryCountWithTag() throws Exception {
+        // given
+        User user = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(user);
+        Tag online = new Tag("온라인");
+        Tag offline = new Tag("오프라인");
+        em.persist(online);
+        em.persist(offline);
+        Meeting onlineMeeting = generateMeeting(user.getId(), List.of(), List.of(online.getId()));
+        Meeting bothMeeting = generateMeeting(user.getId(), List.of(), List.of(online.getId(), offline.getId()));
+        Meeting offlineMeeting = generateMeeting(user.getId(), List.of(), List.of(offline.getId()));
+        em.persist(onlineMeeting);
+        em.persist(bothMeeting);
+        em.persist(offlineMeeting);
+        meetingTagIndex.index(onlineMeeting.getId(), List.of(online));
+        meetingTagIndex.index(bothMeeting.getId(), List.of(online, offline));
+        meetingTagIndex.index(offlineMeeting.getId(), List.of(offline));
+        persistSummaries();
+
+        // when
+        Page<MeetingResponseDto> meetings =
+                meetingQueryRepository.findAll(null, null, List.of("온라인"), null, PageRequest.of(0, 1));
+
+        // then
+        assertThat(meetings.getContent()).hasSize(1);
+        assertThat(meetings.getTotalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("여러 태그는 AND 조건이면 모두 포함한 모임만, OR 조건이면 하나라도 포함한 모임을 조회한다")
+    void meetingQueryWithMultipleTags() throws Exception {
+        // given
+        User user = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(user);
+        Tag online = new Tag("온라인");
+        Tag offline = new Tag("오프라인");
+        em.persist(online);
+        em.persist(offline);
+        Meeting onlineMeeting = generateMeeting(user.getId(), List.of(), List.of(online.getId()));
+        Meeting bothMeeting = generateMeeting(user.getId(), List.of(), List.of(online.getId(), offline.getId()));
+        Meeting offlineMeeting = generateMeeting(user.getId(), List.of(), List.of(offline.getId()));
+        em.persist(onlineMeeting);
+        em.persist(bothMeeting);
+        em.persist(offlineMeeting);
+        meetingTagIndex.index(onlineMeeting.getId(), List.of(online));
+        meetingTagIndex.index(bothMeeting.getId(), List.of(online, offline));
+        meetingTagIndex.index(offlineMeeting.getId(), List.of(offline));
+        persistSummaries();
+
+        // when
+        Page<MeetingResponseDto> and =
+                meetingQueryRepository.findAll(null, null, List.of("온라인", "오프라인"), TagMatch.AND, PageRequest.of(0, 10));
+        Page<MeetingResponseDto> or =
+                meetingQueryRepository.findAll(null, null, List.of("온라인", "오프라인"), TagMatch.OR, PageRequest.of(0, 10));
+
+        // then
+        assertThat(and.getContent()).extracting(MeetingResponseDto::getMeetingId).containsExactly(bothMeeting.getId());
+        assertThat(and.getTotalElements()).isEqualTo(1L);
+        assertThat(or.getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("태그 색인이 준비되기 전에는 요약 테이블의 태그로 AND/OR 조건을 거른다")
+    void meetingQueryWithTagsBeforeIndexReady() throws Exception {
+        // given
+        User user = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(user);
+        Tag online = new Tag("온라인");
+        Tag offline = new Tag("오프라인");
+        em.persist(online);
+        em.persist(offline);
+        Meeting onlineMeeting = generateMeeting(user.getId(), List.of(), List.of(online.getId()));
+        Meeting bothMeeting = generateMeeting(user.getId(), List.of(), List.of(online.getId(), offline.getId()));
+        Meeting offlineMeeting = generateMeeting(user.getId(), List.of(), List.of(offline.getId()));
+        em.persist(onlineMeeting);
+        em.persist(bothMeeting);
+        em.persist(offlineMeeting);
+        persistSummaries();
+        MeetingQueryRepository warmingUp = createRepository(new MeetingTagIndexImpl());
+
+        // when
+        Page<MeetingResponseDto> and =
+                warmingUp.findAll(null, null, List.of("온라인", "오프라인"), TagMatch.AND, PageRequest.of(0, 10));
+        Page<MeetingResponseDto> or =
+                warmingUp.findAll(null, null, List.of("온라인", "오프라인"), TagMatch.OR, PageRequest.of(0, 10));
+
+        // then
+        assertThat(and.getContent()).extracting(MeetingResponseDto::getMeetingId).containsExactly(bothMeeting.getId());
+        assertThat(and.getTotalElements()).isEqualTo(1L);
+        assertThat(or.getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("커서 조회는 생성 시각이 같으면 id 순으로 이어서 조회하고 마지막 페이지에는 다음 커서가 없다")
+    void meetingCursorQueryWithSameCreatedAt() throws Exception {
+        // given
+        User user = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(user);
+        Tag tag = new Tag("커서");
+        em.persist(tag);
+        List<Long> meetingIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Meeting saved = generateMeeting(user.getId(), List.of(), List.of(tag.getId()));
+            em.persist(saved);
+            meetingTagIndex.index(saved.getId(), List.of(tag));
+            meetingIds.add(saved.getId());
+        }
+        persistSummaries();
+        em.createQuery("update MeetingSummary s set s.createdAt = :createdAt where s.meetingId in :meetingIds")
+                .setParameter("createdAt", LocalDateTime.of(2022, 1, 1, 0, 0))
+                .setParameter("meetingIds", meetingIds)
+                .executeUpdate();
+        em.clear();
+        meetingIds.sort(Comparator.reverseOrder());
+
+        // when
+        CursorSlice<MeetingResponseDto> first =
+                meetingQueryRepository.findAll(null, null, List.of("커서"), null, null, 2);
+        CursorSlice<MeetingResponseDto> last =
+                meetingQueryRepository.findAll(null, null, List.of("커서"), null, Cursor.decode(first.getNextCursor()), 2);
+
+        // then
+        assertThat(first.getContent()).extracting(MeetingResponseDto::getMeetingId)
+                .containsExactly(meetingIds.get(0), meetingIds.get(1));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(MeetingResponseDto::getMeetingId)
+                .containsExactly(meetingIds.get(2));
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("id 목록 조회는 요청 순서를 유지하고 없는 id 는 따로 반환한다")
+    void findAllByIds() throws Exception {
+        // given
+        User user = new User(EMAIL1, NICKNAME, PASSWORD1, new Avatar(REMOTE_PATH));
+        em.persist(user);
+        Meeting first = generateMeeting(user.getId(), List.of());
+        Meeting second = generateMeeting(user.getId(), List.of());
+        em.persist(first);
+        em.persist(second);
+        persistSummaries();
+        Long missingId = second.getId() + 100;
+
+        // when
+        MeetingBatchResponseDto result = meetingQueryRepository.findAllByIds(
+                List.of(second.getId(), missingId, first.getId(), second.getId()));
+
+        // then
+        assertThat(result.getContent()).extracting(MeetingResponseDto::getMeetingId)
+                .containsExactly(second.getId(), first.getId());
+        assertThat(result.getMissingIds()).containsExactly(missingId);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.dto.out.MeetingRankDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.momobe.common.enums.TestConstants.*;
+import static com.example.momobe.meeting.domain.enums.RankingWindow.ALL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingRankCacheRepositoryTest {
+    @Mock
+    private MeetingRankQueryRepository meetingRankQueryRepository;
+
+    @Mock
+    private MeetingTagIndex meetingTagIndex;
+
+    @Test
+    @DisplayName("갱신 주기 안에서는 처음 조회한 목록을 재사용한다")
+    void findRanksTest1() {
+        // given
+        MeetingRankCacheRepository meetingRankCacheRepository =
+                new MeetingRankCacheRepository(meetingRankQueryRepository, meetingTagIndex, Runnable::run, 60_000);
+        given(meetingRankQueryRepository.findRanks(ALL, 0, 9)).willReturn(List.of(rank(ID1)));
+
+        // when
+        meetingRankCacheRepository.findRanks(ALL);
+        List<MeetingRankDto> result = meetingRankCacheRepository.findRanks(ALL);
+
+        // then
+        assertThat(result).extracting(MeetingRankDto::getMeetingId).containsExactly(ID1);
+        verify(meetingRankQueryRepository, times(1)).findRanks(ALL, 0, 9);
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지난 목록은 그대로 반환하고 백그라운드에서 한 번만 다시 조회한다")
+    void findRanksTest2() {
+        // given
+        List<Runnable> refreshes = new ArrayList<>();
+        MeetingRankCacheRepository meetingRankCacheRepository =
+                new MeetingRankCacheRepository(meetingRankQueryRepository, meetingTagIndex, refreshes::add, 0);
+        given(meetingRankQueryRepository.findRanks(Category.AI, 0, 9))
+                .willReturn(List.of(rank(ID1)), List.of(rank(ID2)));
+
+        // when
+        meetingRankCacheRepository.findRanks(Category.AI);
+        List<MeetingRankDto> stale1 = meetingRankCacheRepository.findRanks(Category.AI);
+        List<MeetingRankDto> stale2 = meetingRankCacheRepository.findRanks(Category.AI);
+        int scheduled = refreshes.size();
+        refreshes.forEach(Runnable::run);
+        List<MeetingRankDto> refreshed = meetingRankCacheRepository.findRanks(Category.AI);
+
+        // then
+        assertThat(stale1).extracting(MeetingRankDto::getMeetingId).containsExactly(ID1);
+        assertThat(stale2).extracting(MeetingRankDto::getMeetingId).containsExactly(ID1);
+        assertThat(scheduled).isOne();
+        assertThat(refreshed).extracting(MeetingRankDto::getMeetingId).containsExactly(ID2);
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전 목록을 계속 반환하고 다음 요청에서 다시 갱신한다")
+    void findRanksTest3() {
+        // given
+        List<Runnable> refreshes = new ArrayList<>();
+        MeetingRankCacheRepository meetingRankCacheRepository =
+                new MeetingRankCacheRepository(meetingRankQueryRepository, meetingTagIndex, refreshes::add, 0);
+        given(meetingTagIndex.containsTag("온라인")).willReturn(true);
+        given(meetingRankQueryRepository.findRanksByTag("온라인", 0, 9))
+                .willReturn(List.of(rank(ID1)))
+                .willThrow(new IllegalStateException());
+
+        // when
+        meetingRankCacheRepository.findRanksByTag("온라인");
+        meetingRankCacheRepository.findRanksByTag("온라인");
+        refreshes.forEach(Runnable::run);
+        List<MeetingRankDto> result = meetingRankCacheRepository.findRanksByTag("온라인");
+
+        // then
+        assertThat(result).extracting(MeetingRankDto::getMeetingId).containsExactly(ID1);
+        assertThat(refreshes).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("처음 조회에 실패하면 빈 목록을 반환하고 캐시하지 않는다")
+    void findRanksTest4() {
+        // given
+        MeetingRankCacheRepository meetingRankCacheRepository =
+                new MeetingRankCacheRepository(meetingRankQueryRepository, meetingTagIndex, Runnable::run, 60_000);
+        given(meetingRankQueryRepository.findRanks(ALL, 0, 9))
+                .willThrow(new IllegalStateException())
+                .willReturn(List.of(rank(ID1)));
+
+        // when
+        List<MeetingRankDto> degraded = meetingRankCacheRepository.findRanks(ALL);
+        List<MeetingRankDto> recovered = meetingRankCacheRepository.findRanks(ALL);
+
+        // then
+        assertThat(degraded).isEmpty();
+        assertThat(recovered).extracting(MeetingRankDto::getMeetingId).containsExactly(ID1);
+    }
+
+    @Test
+    @DisplayName("태그 색인에 없는 태그의 랭킹은 캐시하지 않고 매번 조회한다")
+    void findRanksByTagTest1() {
+        // given
+        MeetingRankCacheRepository meetingRankCacheRepository =
+                new MeetingRankCacheRepository(meetingRankQueryRepository, meetingTagIndex, Runnable::run, 60_000);
+        given(meetingTagIndex.containsTag("없는태그")).willReturn(false);
+        given(meetingRankQueryRepository.findRanksByTag("없는태그", 0, 9)).willReturn(List.of());
+
+        // when
+        meetingRankCacheRepository.findRanksByTag("없는태그");
+        meetingRankCacheRepository.findRanksByTag("없는태그");
+
+        // then
+        verify(meetingRankQueryRepository, times(2)).findRanksByTag("없는태그", 0, 9);
+    }
+
+    @Test
+    @DisplayName("처음 조회 중인 랭킹의 동시 요청은 조회 결과를 함께 기다리고, 다른 랭킹 조회는 막지 않는다")
+    void findRanksTest5() throws Exception {
+        // given
+        MeetingRankCacheRepository meetingRankCacheRepository =
+                new MeetingRankCacheRepository(meetingRankQueryRepository, meetingTagIndex, Runnable::run, 60_000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(meetingRankQueryRepository.findRanks(ALL, 0, 9)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(rank(ID1));
+        });
+        given(meetingRankQueryRepository.findRanks(Category.AI, 0, 9)).willReturn(List.of(rank(ID2)));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<List<MeetingRankDto>> loader = executorService.submit(() -> meetingRankCacheRepository.findRanks(ALL));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<List<MeetingRankDto>> waiter = executorService.submit(() -> meetingRankCacheRepository.findRanks(ALL));
+            List<MeetingRankDto> other = meetingRankCacheRepository.findRanks(Category.AI);
+            release.countDown();
+
+            // then
+            assertThat(other).extracting(MeetingRankDto::getMeetingId).containsExactly(ID2);
+            assertThat(loader.get(5, TimeUnit.SECONDS)).extracting(MeetingRankDto::getMeetingId).containsExactly(ID1);
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).extracting(MeetingRankDto::getMeetingId).containsExactly(ID1);
+            verify(meetingRankQueryRepository, times(1)).findRanks(ALL, 0, 9);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private MeetingRankDto rank(Long meetingId) {
+        return MeetingRankDto.builder()
+                .meetingId(meetingId)
+                .title(TITLE1)
+                .content(CONTENT1)
+                .imageUrl(TISTORY_URL)
+                .build();
+    }
+}
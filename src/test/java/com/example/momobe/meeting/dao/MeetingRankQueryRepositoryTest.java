@@ -0,0 +1,83 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.MeetingRankingStore;
+import com.example.momobe.meeting.domain.enums.RankingWindow;
+import com.example.momobe.meeting.dto.out.MeetingBatchResponseDto;
+import com.example.momobe.meeting.dto.out.MeetingRankDto;
+import com.example.momobe.meeting.dto.out.MeetingResponseDto;
+import com.example.momobe.meeting.dto.out.MeetingUserResponseWithEmailDto;
+import com.example.momobe.meeting.mapper.MeetingRankMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.momobe.common.enums.TestConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingRankQueryRepositoryTest {
+    @Mock
+    private MeetingRankingStore meetingRankingStore;
+
+    @Mock
+    private MeetingQueryRepository meetingQueryRepository;
+
+    private MeetingRankQueryRepository meetingRankQueryRepository;
+
+    @BeforeEach
+    void init() {
+        meetingRankQueryRepository = new MeetingRankQueryRepository(
+                meetingRankingStore, meetingQueryRepository, new MeetingRankMapperImpl());
+    }
+
+    @Test
+    @DisplayName("랭킹 순서대로 모임 정보를 한 번에 조회하고 조회되지 않은 모임은 랭킹에서 제거한다")
+    void findRanksTest1() {
+        // given
+        List<Long> rankedIds = List.of(ID2, ID3, ID1);
+        given(meetingRankingStore.getRankedIds(RankingWindow.ALL, 0, 9)).willReturn(rankedIds);
+        given(meetingQueryRepository.findAllByIds(rankedIds)).willReturn(MeetingBatchResponseDto.of(rankedIds, Map.of(
+                ID1, meeting(ID1, TITLE1),
+                ID2, meeting(ID2, TITLE2))));
+
+        // when
+        List<MeetingRankDto> result = meetingRankQueryRepository.findRanks(RankingWindow.ALL, 0, 9);
+
+        // then
+        assertThat(result).extracting(MeetingRankDto::getMeetingId).containsExactly(ID2, ID1);
+        assertThat(result.get(0).getTitle()).isEqualTo(TITLE2);
+        verify(meetingRankingStore).remove(List.of(ID3));
+    }
+
+    @Test
+    @DisplayName("랭킹이 비어 있으면 모임을 조회하지 않는다")
+    void findRanksTest2() {
+        // given
+        given(meetingRankingStore.getRankedIds(RankingWindow.ALL, 0, 9)).willReturn(List.of());
+
+        // when
+        List<MeetingRankDto> result = meetingRankQueryRepository.findRanks(RankingWindow.ALL, 0, 9);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(meetingQueryRepository);
+    }
+
+    private MeetingResponseDto meeting(Long meetingId, String title) {
+        return MeetingResponseDto.builder()
+                .meetingId(meetingId)
+                .title(title)
+                .content(CONTENT1)
+                .host(new MeetingUserResponseWithEmailDto(ID1, NICKNAME1, TISTORY_URL, EMAIL1))
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.common.config.JpaQueryFactoryConfig;
+import com.example.momobe.meeting.domain.Address;
+import com.example.momobe.meeting.domain.DateTime;
+import com.example.momobe.meeting.domain.DateTimeInfo;
+import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.meeting.domain.enums.DatePolicy;
+import com.example.momobe.meeting.domain.enums.MeetingState;
+import com.example.momobe.meeting.dto.out.MeetingResponseDto;
+import com.example.momobe.meeting.infarstructure.MeetingSearchIndexImpl;
+import com.example.momobe.meeting.infarstructure.MeetingTagIndexImpl;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.example.momobe.meeting.domain.enums.Category.SOCIAL;
+import static com.example.momobe.meeting.enums.MeetingConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 색인 경로와 LIKE 경로의 키워드 검색 응답 시간을 비교한다.
+ * 기본 테스트에서는 제외되며 Local=local 환경에서 ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureDataJpa
+@Tag("benchmark")
+@Import(JpaQueryFactoryConfig.class)
+@EnabledIfEnvironmentVariable(named = "Local", matches = "local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MeetingSearchBenchmarkTest {
+    private static final int MEETING_COUNT = 10_000;
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 100;
+    private static final List<String> SUBJECTS = List.of("보드게임", "러닝", "독서", "사진", "요리", "등산", "코딩", "영어회화");
+    private static final List<String> REGIONS = List.of("강남", "홍대", "잠실", "성수", "판교", "수원", "부산", "대전");
+
+    @Autowired
+    private EntityManager em;
+
+    private MeetingQueryRepository indexRepository;
+    private MeetingQueryRepository likeRepository;
+
+    @BeforeEach
+    void init() {
+        MeetingSearchIndexImpl readyIndex = new MeetingSearchIndexImpl();
+        List<Long> meetingIds = new ArrayList<>();
+        for (int i = 0; i < MEETING_COUNT; i++) {
+            // 주제 8개 x 지역 8개 조합에 일련번호를 붙여 제목이 겹치지 않게 한다
+            String title = REGIONS.get(i % REGIONS.size()) + " " + SUBJECTS.get(i / REGIONS.size() % SUBJECTS.size()) + " 모임 " + i;
+            String content = title + " 에서 함께할 분을 찾습니다. 초보자도 환영합니다.";
+            Meeting meeting = generateSearchableMeeting(title, content);
+            em.persist(meeting);
+            readyIndex.index(meeting.getId(), title, content, meeting.getMeetingState());
+            meetingIds.add(meeting.getId());
+            if (meetingIds.size() % 500 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        readyIndex.markReady();
+
+        MeetingSummarySourceQueryRepository summarySourceQueryRepository =
+                new MeetingSummarySourceQueryRepository(new JPAQueryFactory(em), new MeetingInfoLoader());
+        for (int from = 0; from < meetingIds.size(); from += 1000) {
+            summarySourceQueryRepository.generateSummaries(meetingIds.subList(from, Math.min(from + 1000, meetingIds.size())))
+                    .forEach(em::persist);
+            em.flush();
+            em.clear();
+        }
+
+        indexRepository = createRepository(readyIndex);
+        likeRepository = createRepository(new MeetingSearchIndexImpl());
+    }
+
+    private MeetingQueryRepository createRepository(MeetingSearchIndexImpl searchIndex) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(em);
+        MeetingTagIndexImpl tagIndex = new MeetingTagIndexImpl();
+        tagIndex.markReady();
+        return new MeetingQueryRepository(
+                queryFactory, new MeetingQueryFactoryUtil(),
+                new MeetingCountQueryRepository(queryFactory, null, tagIndex), searchIndex, tagIndex,
+                new MeetingQueryExecutor(Runnable::run, null, false, 0));
+    }
+
+    @Test
+    @DisplayName("키워드 검색 첫 페이지 조회 시간을 색인 경로와 LIKE 경로로 비교한다")
+    void keywordSearchBenchmark() {
+        // 색인 결과가 IN_CLAUSE_LIMIT 이하인 검색어만 사용한다 (초과하면 색인 경로도 LIKE 로 조회한다)
+        for (String keyword : List.of("홍대 보드게임", "성수 요리", "모임 9999")) {
+            PageRequest pageRequest = PageRequest.of(0, 20);
+            Page<MeetingResponseDto> indexed = indexRepository.findAll(keyword, null, null, null, pageRequest);
+            Page<MeetingResponseDto> liked = likeRepository.findAll(keyword, null, null, null, pageRequest);
+            assertThat(indexed.getTotalElements()).isEqualTo(liked.getTotalElements());
+
+            long[] indexNanos = measure(() -> indexRepository.findAll(keyword, null, null, null, pageRequest));
+            long[] likeNanos = measure(() -> likeRepository.findAll(keyword, null, null, null, pageRequest));
+            log.info("keyword=[{}] total={} index p50={}us p95={}us / like p50={}us p95={}us",
+                    keyword, indexed.getTotalElements(),
+                    percentile(indexNanos, 50), percentile(indexNanos, 95),
+                    percentile(likeNanos, 50), percentile(likeNanos, 95));
+        }
+    }
+
+    private long[] measure(Supplier<?> search) {
+        for (int i = 0; i < WARM_UP; i++) {
+            search.get();
+            em.clear();
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            nanos[i] = System.nanoTime() - start;
+            em.clear();
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private long percentile(long[] sortedNanos, int percent) {
+        int index = Math.min(sortedNanos.length - 1, sortedNanos.length * percent / 100);
+        return sortedNanos[index] / 1_000;
+    }
+
+    private Meeting generateSearchableMeeting(String title, String content) {
+        return Meeting.builder()
+                .title(title)
+                .content(content)
+                .hostId(1L)
+                .category(SOCIAL)
+                .meetingState(MeetingState.OPEN)
+                .price(PRICE)
+                .dateTimeInfo(new DateTimeInfo(DatePolicy.ONE_DAY,
+                        START_DATE, END_DATE, START_TIME, END_TIME, MAX_TIME,
+                        List.of(new DateTime(LocalDateTime.of(START_DATE, START_TIME)))))
+                .personnel(1)
+                .address(new Address(List.of(), "추가 주소"))
+                .build();
+    }
+}
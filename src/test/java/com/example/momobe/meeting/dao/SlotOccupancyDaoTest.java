@@ -0,0 +1,231 @@
+package com.example.momobe.meeting.dao;
+
+import com.example.momobe.meeting.domain.DateTime;
+import com.example.momobe.meeting.domain.DateTimeInfo;
+import com.example.momobe.meeting.domain.Meeting;
+import com.example.momobe.meeting.dto.in.MeetingRequestDto;
+import com.example.momobe.meeting.dto.out.ResponseMeetingDatesDto;
+import com.example.momobe.meeting.mapper.DateTimeMapperImpl;
+import com.example.momobe.reservation.domain.Money;
+import com.example.momobe.reservation.domain.Reservation;
+import com.example.momobe.reservation.domain.ReservationDate;
+import com.example.momobe.reservation.domain.enums.ReservationState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.momobe.common.enums.TestConstants.*;
+import static com.example.momobe.meeting.domain.enums.Category.AI;
+import static com.example.momobe.meeting.domain.enums.DatePolicy.FREE;
+import static com.example.momobe.meeting.domain.enums.MeetingState.OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "Local", matches = "local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SlotOccupancyDaoTest {
+    @Autowired
+    private SlotOccupancyDao slotOccupancyDao;
+
+    @Autowired
+    private MeetingDao meetingDao;
+
+    @Autowired
+    private EntityManager em;
+
+    private Meeting meeting;
+    private Reservation accepted;
+    private Reservation paymentBefore;
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @BeforeEach
+    void init() {
+        LocalDate startDate = LocalDate.of(2022, 1, 1);
+        from = startDate.atStartOfDay();
+        to = from.plusMonths(1);
+
+        List<LocalDate> dates = List.of(startDate, startDate.plusDays(1), startDate.plusDays(2));
+        List<DateTime> dateTimes = new DateTimeMapperImpl().toDateTime(MeetingRequestDto.DateTimeDto.builder()
+                .datePolicy(FREE)
+                .maxTime(4)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(14, 0))
+                .startDate(startDate)
+                .endDate(startDate.plusDays(2))
+                .dayWeeks(Set.of(1, 2, 3, 4, 5, 6, 7))
+                .dates(dates)
+                .build());
+
+        meeting = Meeting.builder()
+                .meetingState(OPEN)
+                .content(CONTENT1)
+                .price(10000L)
+                .personnel(1)
+                .category(AI)
+                .title(TITLE1)
+                .hostId(ID1)
+                .dateTimeInfo(DateTimeInfo.builder()
+                        .datePolicy(FREE)
+                        .maxTime(4)
+                        .startTime(LocalTime.of(10, 0))
+                        .endTime(LocalTime.of(14, 0))
+                        .startDate(startDate)
+                        .endDate(startDate.plusDays(2))
+                        .dateTimes(dateTimes)
+                        .build())
+                .build();
+        em.persist(meeting);
+
+        accepted = reservation(startDate, ReservationState.ACCEPT);
+        paymentBefore = reservation(startDate.plusDays(1), ReservationState.PAYMENT_BEFORE);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("보정 작업은 누락된 일정을 만들고 예약을 직접 집계한 결과와 같은 예약 인원을 채운다.")
+    void reconcileTest() {
+        //when
+        int inserted = slotOccupancyDao.insertMissingSlots();
+        slotOccupancyDao.reconcileOccupied();
+
+        //then
+        List<ResponseMeetingDatesDto> schedule = slotOccupancyDao.findSchedule(meeting.getId(), from, to);
+        List<ResponseMeetingDatesDto> expected = meetingDao.getReservationSchedule(meeting.getId(), from, to);
+        assertThat(inserted).isGreaterThanOrEqualTo(12);
+        assertThat(schedule).hasSize(12);
+        assertThat(summarize(schedule)).isEqualTo(summarize(expected));
+    }
+
+    @Test
+    @DisplayName("예약 시간에 포함된 일정만 증감하며 0 미만으로 내려가지 않는다.")
+    void addOccupiedTest() {
+        //given
+        slotOccupancyDao.insertSlots(meeting.getId(), slotStarts(), meeting.getPersonnel());
+
+        //when
+        slotOccupancyDao.addOccupied(meeting.getId(), from.plusHours(10), from.plusHours(12), 1);
+        slotOccupancyDao.addOccupied(meeting.getId(), from.plusDays(1).plusHours(10), from.plusDays(1).plusHours(11), -1);
+
+        //then
+        List<ResponseMeetingDatesDto> schedule = slotOccupancyDao.findSchedule(meeting.getId(), from, to);
+        assertThat(schedule).filteredOn(dto -> dto.getCurrentStaff() == 1)
+                .extracting(ResponseMeetingDatesDto::getDateTime)
+                .containsExactly(from.plusHours(10), from.plusHours(11));
+        assertThat(schedule).filteredOn(dto -> dto.getCurrentStaff() == 1)
+                .extracting(ResponseMeetingDatesDto::getAvailability)
+                .containsOnly("false");
+        assertThat(schedule).extracting(ResponseMeetingDatesDto::getCurrentStaff).doesNotContain(-1);
+    }
+
+    @Test
+    @DisplayName("결제 완료 반영은 아직 일정을 차지하지 않은 예약만 더한다.")
+    void occupyByReservationIdTest() {
+        //given
+        slotOccupancyDao.insertSlots(meeting.getId(), slotStarts(), meeting.getPersonnel());
+
+        //when
+        slotOccupancyDao.occupyByReservationId(paymentBefore.getId());
+        slotOccupancyDao.occupyByReservationId(accepted.getId());
+
+        //then
+        List<ResponseMeetingDatesDto> schedule = slotOccupancyDao.findSchedule(meeting.getId(), from, to);
+        assertThat(schedule).filteredOn(dto -> dto.getCurrentStaff() == 1)
+                .extracting(ResponseMeetingDatesDto::getDateTime)
+                .containsExactly(from.plusDays(1).plusHours(10), from.plusDays(1).plusHours(11));
+    }
+
+    @Test
+    @DisplayName("증감 반영을 거친 예약 인원은 보정 작업을 실행해도 바뀌지 않는다.")
+    void reconcileAfterIncrementalTest() {
+        //given
+        LocalDate lastDate = from.toLocalDate().plusDays(2);
+        slotOccupancyDao.insertSlots(meeting.getId(), slotStarts(), meeting.getPersonnel());
+        add(accepted, 1);
+
+        slotOccupancyDao.occupyByReservationId(paymentBefore.getId());
+        em.createQuery("update Reservation r set r.reservationState = :state where r.id = :id")
+                .setParameter("state", ReservationState.PAYMENT_SUCCESS)
+                .setParameter("id", paymentBefore.getId())
+                .executeUpdate();
+
+        Reservation canceled = reservation(lastDate, ReservationState.PAYMENT_SUCCESS);
+        add(canceled, 1);
+        canceled.cancel();
+        add(canceled, -1);
+
+        reservation(lastDate, ReservationState.PAYMENT_PROGRESS);
+        em.flush();
+        List<String> incremental = summarize(slotOccupancyDao.findSchedule(meeting.getId(), from, to));
+
+        //when
+        slotOccupancyDao.reconcileOccupied();
+
+        //then
+        List<String> reconciled = summarize(slotOccupancyDao.findSchedule(meeting.getId(), from, to));
+        assertThat(reconciled).isEqualTo(incremental);
+        assertThat(incremental).filteredOn(summary -> summary.contains(":1:")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("다른 해의 같은 월 일정은 조회하지 않는다.")
+    void findScheduleTest() {
+        //given
+        slotOccupancyDao.insertSlots(meeting.getId(), slotStarts(), meeting.getPersonnel());
+
+        //when
+        List<ResponseMeetingDatesDto> nextYear = slotOccupancyDao.findSchedule(meeting.getId(), from.plusYears(1), to.plusYears(1));
+
+        //then
+        assertThat(nextYear).isEmpty();
+    }
+
+    private Reservation reservation(LocalDate date, ReservationState state) {
+        Reservation reservation = Reservation.builder()
+                .meetingId(meeting.getId())
+                .reservationDate(ReservationDate.builder()
+                        .date(date)
+                        .startTime(LocalTime.of(10, 0))
+                        .endTime(LocalTime.of(12, 0))
+                        .build())
+                .amount(new Money(10000L))
+                .reservationState(state)
+                .build();
+        em.persist(reservation);
+        return reservation;
+    }
+
+    private void add(Reservation reservation, int delta) {
+        ReservationDate reservationDate = reservation.getReservationDate();
+        slotOccupancyDao.addOccupied(meeting.getId(),
+                reservationDate.getStartDateTime(), reservationDate.getEndDateTime(), delta);
+    }
+
+    private List<LocalDateTime> slotStarts() {
+        return meeting.getDateTimeInfo().getDateTimes().stream()
+                .map(DateTime::getDateTime)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> summarize(List<ResponseMeetingDatesDto> schedule) {
+        return schedule.stream()
+                .map(dto -> dto.getDateTime() + ":" + dto.getCurrentStaff() + ":" + dto.getAvailability())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
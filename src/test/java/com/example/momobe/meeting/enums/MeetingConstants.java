@@ -14,6 +14,7 @@ import org.springframework.restdocs.request.PathParametersSnippet;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -98,6 +99,27 @@ public class MeetingConstants {
                 .build();
     }
 
+    public static Meeting generateMeetingWithDates(Long hostId, List<Long> addressIds, List<Long> tagIds, int dateCount) {
+        List<DateTime> dateTimes = new ArrayList<>();
+        for (int i = 0; i < dateCount; i++) {
+            dateTimes.add(new DateTime(LocalDateTime.of(START_DATE.plusDays(i), START_TIME)));
+        }
+
+        return Meeting.builder()
+                .title(TITLE1)
+                .content(CONTENT1)
+                .hostId(hostId)
+                .category(SOCIAL)
+                .meetingState(MeetingState.OPEN)
+                .price(PRICE)
+                .dateTimeInfo(new DateTimeInfo(DatePolicy.FREE,
+                        START_DATE, START_DATE.plusDays(dateCount), START_TIME, END_TIME, MAX_TIME, dateTimes))
+                .personnel(dateCount)
+                .address(new Address(addressIds, "추가 주소"))
+                .tagIds(tagIds)
+                .build();
+    }
+
     public static Meeting generateMeetingWithPeriod(Long hostId, List<Long> addressIds, List<Long> tagIds) {
         return Meeting.builder()
                 .title(TITLE1)
@@ -0,0 +1,90 @@
+package com.example.momobe.meeting.infarstructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeetingRankingCircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+    private MeetingRankingCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void init() {
+        circuitBreaker = new MeetingRankingCircuitBreaker(3, 1000, now::get);
+    }
+
+    @Test
+    @DisplayName("연속 실패 횟수가 기준에 도달하면 호출을 막는다")
+    void circuitTest1() {
+        // when
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        boolean beforeOpen = circuitBreaker.allowRequest();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertThat(beforeOpen).isTrue();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("중간에 성공하면 실패 횟수를 다시 센다")
+    void circuitTest2() {
+        // when
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 한 번만 시도를 허용하고, 성공하면 차단을 해제한다")
+    void circuitTest3() {
+        // given
+        open();
+        now.addAndGet(1000);
+
+        // when
+        boolean trial = circuitBreaker.allowRequest();
+        boolean concurrent = circuitBreaker.allowRequest();
+        circuitBreaker.recordSuccess();
+
+        // then
+        assertThat(trial).isTrue();
+        assertThat(concurrent).isFalse();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시도가 실패하면 다시 차단 시간만큼 막는다")
+    void circuitTest4() {
+        // given
+        open();
+        now.addAndGet(1000);
+
+        // when
+        circuitBreaker.allowRequest();
+        circuitBreaker.recordFailure();
+        boolean beforeRetry = circuitBreaker.allowRequest();
+        now.addAndGet(1000);
+
+        // then
+        assertThat(beforeRetry).isFalse();
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure();
+        }
+    }
+}
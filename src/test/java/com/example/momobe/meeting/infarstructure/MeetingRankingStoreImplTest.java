@@ -1,7 +1,7 @@
 package com.example.momobe.meeting.infarstructure;
 
 import com.example.momobe.common.config.RedisTestConfig;
-import com.example.momobe.meeting.domain.MeetingRankingStore;
+import com.example.momobe.meeting.domain.enums.Category;
 import com.example.momobe.meeting.dto.out.MeetingRankDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,27 +13,30 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.util.List;
+import java.util.UUID;
 
 import static com.example.momobe.common.enums.TestConstants.*;
+import static com.example.momobe.meeting.constants.MeetingConstants.LEGACY_RANKING_KEY;
+import static com.example.momobe.meeting.constants.MeetingConstants.RANKING_CACHE_KEY;
+import static com.example.momobe.meeting.domain.enums.RankingWindow.*;
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
 @EnabledIfEnvironmentVariable(named = "Local", matches = "local")
 class MeetingRankingStoreImplTest extends RedisTestConfig {
     @Autowired
-    MeetingRankingStore<MeetingRankDto> rankingStore;
+    MeetingRankingStoreImpl rankingStore;
 
     @Autowired
-    RedisTemplate<String, MeetingRankDto> redisTemplate;
+    RedisTemplate<String, String> redisTemplate;
 
-    private final String KEY = "KIKIKI";
-    
     @Autowired
     ObjectMapper objectMapper;
 
     @BeforeEach
     void init() {
         rankingStore.deleteAll();
+        redisTemplate.delete(LEGACY_RANKING_KEY);
     }
 
     @Test
@@ -41,129 +44,227 @@ class MeetingRankingStoreImplTest extends RedisTestConfig {
     void getRanksTest1() {
         //given
         //when
-        List<MeetingRankDto> result = rankingStore.getRanks(KEY, 0, 9, MeetingRankDto.class);
+        List<Long> result = rankingStore.getRankedIds(ALL, 0, 9);
 
         //then
         assertThat(result).isEmpty();
     }
 
     @Test
-    @DisplayName("updateRank()로 데이터를 1개 삽입하고 조회 시 result size는 1")
+    @DisplayName("increaseScore()로 데이터를 1개 삽입하고 조회 시 result size는 1")
     void getRanksTest2() {
         //given
-        MeetingRankDto dto = MeetingRankDto.builder()
-                .meetingId(ID1)
-                .content(CONTENT1)
-                .imageUrl(CONTENT1)
-                .title(TITLE1)
-                .build();
-
-        rankingStore.updateRank(KEY, dto);
+        rankingStore.increaseScore(ID1, newViewer(), Category.AI, List.of());
+        rankingStore.flush();
 
         //when
-        List<MeetingRankDto> result = rankingStore.getRanks(KEY, 0, 9, MeetingRankDto.class);
+        List<Long> result = rankingStore.getRankedIds(ALL, 0, 9);
 
         //then
-        assertThat(result.size()).isOne();
+        assertThat(result).containsExactly(ID1);
     }
 
     @Test
-    @DisplayName("updateRank()로 데이터 5개 삽입하고 조회 시 result size는 5")
+    @DisplayName("increaseScore()로 데이터를 20개 삽입해도 range를 0~9까지 설정 시 result.size()는 10")
     void getRanksTest3() {
         //given
-        for (int i=0; i<5; i++) {
-            MeetingRankDto dto = MeetingRankDto.builder()
-                    .meetingId((long)i)
-                    .content(CONTENT1)
-                    .imageUrl(CONTENT1)
-                    .title(TITLE1)
-                    .build();
-
-            rankingStore.updateRank(KEY, dto);
+        for (long i = 0; i < 19; i++) {
+            rankingStore.increaseScore(i, newViewer(), Category.AI, List.of());
         }
+        rankingStore.flush();
 
         //when
-        List<MeetingRankDto> result = rankingStore.getRanks(KEY, 0, 9, MeetingRankDto.class);
+        List<Long> result = rankingStore.getRankedIds(ALL, 0, 9);
 
         //then
-        assertThat(result.size()).isEqualTo(5);
+        assertThat(result.size()).isEqualTo(10);
     }
 
     @Test
-    @DisplayName("updateRank()로 데이터를 20개 삽입해도 range를 0~9까지 설정 시 result.size()는 10")
+    @DisplayName("dto 1 ~ 20을 각 수에 맞게 1~20회 저장하고 0~9로 조회했을 때, 0번째는 20 9번째는 11, size는 10")
     void getRanksTest4() {
         //given
-        for (int i=0; i<19; i++) {
-            MeetingRankDto dto = MeetingRankDto.builder()
-                    .meetingId((long)i)
-                    .content(CONTENT1)
-                    .imageUrl(CONTENT1)
-                    .title(TITLE1)
-                    .build();
-
-            rankingStore.updateRank(KEY, dto);
+        for (long i = 1; i <= 20; i++) {
+            for (int j = 1; j <= i; j++) {
+                rankingStore.increaseScore(i, newViewer(), Category.AI, List.of());
+            }
         }
+        rankingStore.flush();
 
         //when
-        List<MeetingRankDto> result = rankingStore.getRanks(KEY, 0, 9, MeetingRankDto.class);
+        List<Long> ranks = rankingStore.getRankedIds(ALL, 0, 9);
 
         //then
-        assertThat(result.size()).isEqualTo(10);
+        assertThat(ranks.get(0)).isEqualTo(20L);
+        assertThat(ranks.get(9)).isEqualTo(11L);
+        assertThat(ranks.size()).isEqualTo(10);
     }
 
     @Test
-    @DisplayName("랭크 조회 시, 저장 회수가 많은 (스코어가 높은) 데이터부터 순차적으로 인덱스에 배치된다")
-    void getRanksTest5() {
+    @DisplayName("flush() 전에는 조회수가 반영되지 않고, flush() 시 모임별로 합산되어 반영된다")
+    void flushTest() {
         //given
-        MeetingRankDto dto1 = MeetingRankDto.builder()
-                .meetingId(ID1)
-                .build();
+        for (int i = 0; i < 3; i++) {
+            rankingStore.increaseScore(ID1, newViewer(), Category.AI, List.of());
+        }
+        rankingStore.increaseScore(ID2, newViewer(), Category.AI, List.of());
 
-        MeetingRankDto dto2 = MeetingRankDto.builder()
-                .meetingId(ID2)
-                .build();
+        //when
+        List<Long> before = rankingStore.getRankedIds(ALL, 0, 9);
+        rankingStore.flush();
 
-        MeetingRankDto dto3 = MeetingRankDto.builder()
-                .meetingId(ID3)
-                .build();
+        //then
+        assertThat(before).isEmpty();
+        assertThat(rankingStore.getRankedIds(ALL, 0, 9)).containsExactly(ID1, ID2);
+        assertThat(redisTemplate.opsForZSet().score(RANKING_CACHE_KEY, String.valueOf(ID1))).isEqualTo(3.0);
+    }
 
-        rankingStore.updateRank(KEY, dto1);
-        rankingStore.updateRank(KEY, dto2);
-        rankingStore.updateRank(KEY, dto2);
-        rankingStore.updateRank(KEY, dto3);
-        rankingStore.updateRank(KEY, dto3);
-        rankingStore.updateRank(KEY, dto3);
+    @Test
+    @DisplayName("remove() 한 모임은 랭킹에서 제외된다")
+    void removeTest() {
+        //given
+        rankingStore.increaseScore(ID1, newViewer(), Category.AI, List.of());
+        rankingStore.increaseScore(ID2, newViewer(), Category.AI, List.of());
+        rankingStore.flush();
 
         //when
-        List<MeetingRankDto> result = rankingStore.getRanks(KEY, 0, 9, MeetingRankDto.class);
+        rankingStore.remove(List.of(ID1));
 
         //then
-        System.out.println(result.size());
-        assertThat(result.get(0)).isEqualTo(dto3);
-        assertThat(result.get(1)).isEqualTo(dto2);
-        assertThat(result.get(2)).isEqualTo(dto1);
+        assertThat(rankingStore.getRankedIds(ALL, 0, 9)).containsExactly(ID2);
     }
 
     @Test
-    @DisplayName("dto 1 ~ 20을 각 수에 맞게 1~20회 저장하고 0~9로 조회했을 때, 0번째 dto는 20 9번째 dto는 11, size는 10")
-    void getRanksTest6() {
+    @DisplayName("remove() 한 모임은 카테고리 / 태그별 랭킹에서도 제외된다")
+    void removeTest2() {
         //given
-        for (int i=1; i<=20; i++) {
-            for (int j = 1; j <= i; j++) {
-                MeetingRankDto dto = MeetingRankDto.builder()
-                        .meetingId((long) i)
-                        .build();
+        rankingStore.increaseScore(ID1, newViewer(), Category.AI, List.of("온라인", "주말"));
+        rankingStore.increaseScore(ID2, newViewer(), Category.AI, List.of("온라인"));
+        rankingStore.flush();
+        // 수정 후 태그가 바뀐 상태로 조회되어도 이전 태그 랭킹에서 제거되어야 한다
+        rankingStore.increaseScore(ID1, newViewer(), Category.AI, List.of("평일"));
+        rankingStore.flush();
 
-                rankingStore.updateRank(KEY, dto);
-            }
-        }
+        //when
+        rankingStore.remove(List.of(ID1));
+
+        //then
+        assertThat(rankingStore.getRankedIds(Category.AI, 0, 9)).containsExactly(ID2);
+        assertThat(rankingStore.getRankedIdsByTag("온라인", 0, 9)).containsExactly(ID2);
+        assertThat(rankingStore.getRankedIdsByTag("주말", 0, 9)).isEmpty();
+        assertThat(rankingStore.getRankedIdsByTag("평일", 0, 9)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JSON member 로 저장된 이전 랭킹은 meetingId 별로 점수를 합쳐 옮긴다")
+    void migrateLegacyRanksTest() throws Exception {
+        //given
+        String before = objectMapper.writeValueAsString(MeetingRankDto.builder()
+                .meetingId(ID1).title(TITLE1).content(CONTENT1).imageUrl(TISTORY_URL).build());
+        String after = objectMapper.writeValueAsString(MeetingRankDto.builder()
+                .meetingId(ID1).title(TITLE2).content(CONTENT1).imageUrl(TISTORY_URL).build());
+        String other = objectMapper.writeValueAsString(MeetingRankDto.builder()
+                .meetingId(ID2).title(TITLE1).content(CONTENT1).imageUrl(TISTORY_URL).build());
+
+        redisTemplate.opsForZSet().add(LEGACY_RANKING_KEY, before, 3);
+        redisTemplate.opsForZSet().add(LEGACY_RANKING_KEY, after, 2);
+        redisTemplate.opsForZSet().add(LEGACY_RANKING_KEY, other, 3);
+        rankingStore.increaseScore(ID2, newViewer(), Category.AI, List.of());
+        rankingStore.flush();
 
         //when
-        List<MeetingRankDto> ranks = rankingStore.getRanks(KEY, 0, 9, MeetingRankDto.class);
+        rankingStore.migrateLegacyRanks();
 
         //then
-        assertThat(ranks.get(0).getMeetingId()).isEqualTo(20);
-        assertThat(ranks.get(9).getMeetingId()).isEqualTo(11);
-        assertThat(ranks.size()).isEqualTo(10);
+        assertThat(rankingStore.getRankedIds(ALL, 0, 9)).containsExactly(ID1, ID2);
+        assertThat(redisTemplate.opsForZSet().score(RANKING_CACHE_KEY, String.valueOf(ID1))).isEqualTo(5.0);
+        assertThat(redisTemplate.opsForZSet().score(RANKING_CACHE_KEY, String.valueOf(ID2))).isEqualTo(4.0);
+        assertThat(redisTemplate.hasKey(LEGACY_RANKING_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("flush() 시 현재 시간의 ZSET 에도 반영되어 최근 1시간 랭킹으로 조회된다")
+    void windowTest1() {
+        //given
+        rankingStore.increaseScore(ID1, newViewer(), Category.AI, List.of());
+        rankingStore.increaseScore(ID2, newViewer(), Category.AI, List.of());
+        rankingStore.increaseScore(ID2, newViewer(), Category.AI, List.of());
+        rankingStore.flush();
+
+        //when
+        List<Long> result = rankingStore.getRankedIds(HOUR, 0, 9);
+
+        //then
+        assertThat(result).containsExactly(ID2, ID1);
+        assertThat(redisTemplate.getExpire(MeetingRankingStoreImpl.bucketKey(MeetingRankingStoreImpl.currentHour()))).isPositive();
+    }
+
+    @Test
+    @DisplayName("기간 랭킹은 기간 내의 시간별 조회수만 합산하고, 오래된 시간일수록 가중치가 낮다")
+    void windowTest2() {
+        //given
+        long currentHour = MeetingRankingStoreImpl.currentHour();
+        redisTemplate.opsForZSet().add(MeetingRankingStoreImpl.bucketKey(currentHour), String.valueOf(ID1), 3);
+        redisTemplate.opsForZSet().add(MeetingRankingStoreImpl.bucketKey(currentHour - 20), String.valueOf(ID2), 5);
+        redisTemplate.opsForZSet().add(MeetingRankingStoreImpl.bucketKey(currentHour - 30), String.valueOf(ID3), 100);
+
+        //when
+        List<Long> hour = rankingStore.getRankedIds(HOUR, 0, 9);
+        List<Long> day = rankingStore.getRankedIds(DAY, 0, 9);
+        List<Long> week = rankingStore.getRankedIds(WEEK, 0, 9);
+
+        //then
+        assertThat(hour).containsExactly(ID1);
+        assertThat(day).containsExactly(ID1, ID2);
+        assertThat(week).containsExactly(ID3, ID2, ID1);
+    }
+
+    @Test
+    @DisplayName("카테고리 / 태그별 랭킹은 해당 카테고리 / 태그가 달린 모임만 집계한다")
+    void scopeTest() {
+        //given
+        rankingStore.increaseScore(ID1, newViewer(), Category.AI, List.of("온라인", "주말"));
+        rankingStore.increaseScore(ID2, newViewer(), Category.DEVELOP, List.of("온라인"));
+        rankingStore.increaseScore(ID2, newViewer(), Category.DEVELOP, List.of("온라인"));
+        rankingStore.increaseScore(ID3, newViewer(), Category.AI, List.of());
+        rankingStore.increaseScore(ID3, newViewer(), Category.AI, List.of());
+        rankingStore.flush();
+
+        //when
+        List<Long> ai = rankingStore.getRankedIds(Category.AI, 0, 9);
+        List<Long> develop = rankingStore.getRankedIds(Category.DEVELOP, 0, 9);
+        List<Long> online = rankingStore.getRankedIdsByTag("온라인", 0, 9);
+        List<Long> weekend = rankingStore.getRankedIdsByTag("주말", 0, 9);
+
+        //then
+        assertThat(ai).containsExactly(ID3, ID1);
+        assertThat(develop).containsExactly(ID2);
+        assertThat(online).containsExactly(ID2, ID1);
+        assertThat(weekend).containsExactly(ID1);
+        assertThat(rankingStore.getRankedIds(ALL, 0, 9)).containsExactly(ID3, ID2, ID1);
+    }
+
+    @Test
+    @DisplayName("같은 조회자가 같은 시간에 여러 번 조회해도 한 번만 반영된다")
+    void viewerTest() {
+        //given
+        String viewer = newViewer();
+        rankingStore.increaseScore(ID1, viewer, Category.AI, List.of());
+        rankingStore.increaseScore(ID1, viewer, Category.AI, List.of());
+        rankingStore.flush();
+        rankingStore.increaseScore(ID1, viewer, Category.AI, List.of());
+        rankingStore.increaseScore(ID1, newViewer(), Category.AI, List.of());
+        rankingStore.flush();
+
+        //when
+        Double score = redisTemplate.opsForZSet().score(RANKING_CACHE_KEY, String.valueOf(ID1));
+
+        //then
+        assertThat(score).isEqualTo(2.0);
+        assertThat(redisTemplate.getExpire(MeetingRankingStoreImpl.viewerKey(MeetingRankingStoreImpl.currentHour(), ID1))).isPositive();
+    }
+
+    private String newViewer() {
+        return "user:" + UUID.randomUUID();
     }
-}
\ No newline at end of file
+}
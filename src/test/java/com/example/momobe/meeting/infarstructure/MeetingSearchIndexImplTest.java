@@ -0,0 +1,97 @@
+package com.example.momobe.meeting.infarstructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.momobe.common.enums.TestConstants.*;
+import static com.example.momobe.meeting.domain.enums.MeetingState.CLOSE;
+import static com.example.momobe.meeting.domain.enums.MeetingState.OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeetingSearchIndexImplTest {
+    private MeetingSearchIndexImpl meetingSearchIndex;
+
+    @BeforeEach
+    void init() {
+        meetingSearchIndex = new MeetingSearchIndexImpl();
+        meetingSearchIndex.index(ID1, "주말 축구 모임", "같이 공 차실 분 구해요", OPEN);
+        meetingSearchIndex.index(ID2, "자바 스터디", "주말마다 축구 보면서 공부합니다", OPEN);
+        meetingSearchIndex.index(ID3, "풋살 모임", "실내 풋살장에서 만나요", OPEN);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 n-gram 을 포함하는 모임만 조회되며 제목 일치가 본문 일치보다 앞선다")
+    void searchTest1() {
+        // when
+        List<Long> result = meetingSearchIndex.search("축구");
+
+        // then
+        assertThat(result).containsExactly(ID1, ID2);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어와 단어 일부로도 조회된다")
+    void searchTest2() {
+        // when
+        List<Long> singleCharacter = meetingSearchIndex.search("풋");
+        List<Long> partialWord = meetingSearchIndex.search("터디");
+
+        // then
+        assertThat(singleCharacter).containsExactly(ID3);
+        assertThat(partialWord).containsExactly(ID2);
+    }
+
+    @Test
+    @DisplayName("일치하지 않는 검색어는 빈 결과를 반환한다")
+    void searchTest3() {
+        // when
+        List<Long> result = meetingSearchIndex.search("농구");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정된 내용으로 재색인되고, 마감된 모임은 모집중인 모임 뒤로 밀린다")
+    void indexTest1() {
+        // given
+        meetingSearchIndex.index(ID1, "주말 축구 모임", "같이 공 차실 분 구해요", CLOSE);
+        meetingSearchIndex.index(ID3, "풋살 모임", "축구화 필수", OPEN);
+
+        // when
+        List<Long> result = meetingSearchIndex.search("축구");
+
+        // then
+        assertThat(result).containsExactly(ID3, ID2, ID1);
+    }
+
+    @Test
+    @DisplayName("삭제된 모임은 조회되지 않는다")
+    void removeTest1() {
+        // given
+        meetingSearchIndex.remove(ID1);
+
+        // when
+        List<Long> result = meetingSearchIndex.search("모임");
+
+        // then
+        assertThat(result).containsExactly(ID3);
+    }
+
+    @Test
+    @DisplayName("재색인이 끝나 markReady 되기 전에는 준비되지 않은 상태다")
+    void readyTest1() {
+        // given
+        boolean before = meetingSearchIndex.isReady();
+
+        // when
+        meetingSearchIndex.markReady();
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(meetingSearchIndex.isReady()).isTrue();
+    }
+}
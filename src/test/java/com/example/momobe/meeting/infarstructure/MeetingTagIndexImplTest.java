@@ -0,0 +1,121 @@
+package com.example.momobe.meeting.infarstructure;
+
+import com.example.momobe.tag.domain.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.momobe.common.enums.TestConstants.*;
+import static com.example.momobe.meeting.domain.enums.TagMatch.AND;
+import static com.example.momobe.meeting.domain.enums.TagMatch.OR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class MeetingTagIndexImplTest {
+    private MeetingTagIndexImpl meetingTagIndex;
+    private Tag online;
+    private Tag offline;
+    private Tag weekend;
+
+    @BeforeEach
+    void init() {
+        online = tag(ID1, "온라인");
+        offline = tag(ID2, "오프라인");
+        weekend = tag(ID3, "주말");
+
+        meetingTagIndex = new MeetingTagIndexImpl();
+        meetingTagIndex.index(ID1, List.of(online, weekend));
+        meetingTagIndex.index(ID2, List.of(offline, weekend));
+        meetingTagIndex.index(ID3, List.of(online));
+    }
+
+    @Test
+    @DisplayName("AND 조건은 모든 태그를 포함한 모임만 최신 id 순으로 반환한다")
+    void findTest1() {
+        // when
+        List<Long> result = meetingTagIndex.findMeetingIds(List.of("온라인", "주말"), AND);
+
+        // then
+        assertThat(result).containsExactly(ID1);
+    }
+
+    @Test
+    @DisplayName("OR 조건은 하나 이상의 태그를 포함한 모임을 최신 id 순으로 반환한다")
+    void findTest2() {
+        // when
+        List<Long> result = meetingTagIndex.findMeetingIds(List.of("온라인", "오프라인"), OR);
+
+        // then
+        assertThat(result).containsExactly(ID3, ID2, ID1);
+    }
+
+    @Test
+    @DisplayName("색인되지 않은 태그가 AND 조건에 포함되면 빈 결과를 반환한다")
+    void findTest3() {
+        // when
+        List<Long> result = meetingTagIndex.findMeetingIds(List.of("온라인", "없는 태그"), AND);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재색인 시 빠진 태그에서 모임이 제거되고, 삭제된 모임은 조회되지 않는다")
+    void indexTest1() {
+        // when
+        meetingTagIndex.index(ID1, List.of(offline));
+        meetingTagIndex.remove(ID2);
+
+        // then
+        assertThat(meetingTagIndex.findMeetingIds(List.of("주말"), AND)).isEmpty();
+        assertThat(meetingTagIndex.findMeetingIds(List.of("오프라인"), AND)).containsExactly(ID1);
+    }
+
+    @Test
+    @DisplayName("태그별 모임 수는 대상 모임 안에서만 집계하고 많은 순으로 정렬한다")
+    void countTest1() {
+        // when
+        Map<String, Long> all = meetingTagIndex.countTags(null);
+        Map<String, Long> filtered = meetingTagIndex.countTags(List.of(ID1, ID3));
+
+        // then
+        assertThat(all).containsExactly(entry("온라인", 2L), entry("주말", 2L), entry("오프라인", 1L));
+        assertThat(filtered).containsExactly(entry("온라인", 2L), entry("주말", 1L));
+    }
+
+    @Test
+    @DisplayName("모임에 달린 태그 이름을 정렬해서 반환하고, 색인되지 않은 모임은 빈 목록을 반환한다")
+    void findTagNamesTest1() {
+        // when
+        List<String> tagNames = meetingTagIndex.findTagNames(ID1);
+        meetingTagIndex.remove(ID1);
+
+        // then
+        assertThat(tagNames).containsExactly("온라인", "주말");
+        assertThat(meetingTagIndex.findTagNames(ID1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재색인이 끝나 markReady 되기 전에는 준비되지 않은 상태다")
+    void readyTest1() {
+        // given
+        boolean before = meetingTagIndex.isReady();
+
+        // when
+        meetingTagIndex.markReady();
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(meetingTagIndex.isReady()).isTrue();
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = new Tag(name);
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+}
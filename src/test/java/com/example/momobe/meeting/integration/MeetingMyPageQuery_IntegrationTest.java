@@ -1,6 +1,7 @@
 package com.example.momobe.meeting.integration;
 
 import com.example.momobe.address.domain.Address;
+import com.example.momobe.meeting.application.MeetingSummaryProjector;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.security.domain.JwtTokenUtil;
 import com.example.momobe.user.domain.Avatar;
@@ -34,6 +35,8 @@ class MeetingMyPageQuery_IntegrationTest {
     @Autowired
     private EntityManager em;
     @Autowired
+    private MeetingSummaryProjector meetingSummaryProjector;
+    @Autowired
     private JwtTokenUtil jwtTokenUtil;
 
     @Test
@@ -58,6 +61,7 @@ class MeetingMyPageQuery_IntegrationTest {
         em.persist(generateAcceptReservation(user.getId(), meeting.getId()));
         em.persist(generatePaymentSuccessReservation(user.getId(), meeting.getId()));
         em.persist(generateDenyReservation(user.getId(), meeting.getId()));
+        meetingSummaryProjector.project(List.of(meeting.getId()));
 
         // when
         ResultActions actions = mockMvc.perform(
@@ -97,6 +101,7 @@ class MeetingMyPageQuery_IntegrationTest {
         String accessToken = jwtTokenUtil.createAccessToken(EMAIL1, participant.getId(), ROLE_USER_LIST, NICKNAME1);
         em.persist(generatePaymentSuccessReservation(participant.getId(), meeting1.getId()));
         em.persist(generateDenyReservation(participant.getId(), meeting2.getId()));
+        meetingSummaryProjector.project(List.of(meeting1.getId(), meeting2.getId()));
 
         // when
         ResultActions actions = mockMvc.perform(
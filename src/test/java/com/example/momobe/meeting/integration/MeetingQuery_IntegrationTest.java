@@ -1,6 +1,8 @@
 package com.example.momobe.meeting.integration;
 
 import com.example.momobe.address.domain.Address;
+import com.example.momobe.meeting.application.MeetingSummaryProjector;
+import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.user.domain.Avatar;
 import com.example.momobe.user.domain.User;
 import org.junit.jupiter.api.Test;
@@ -33,6 +35,8 @@ class MeetingQuery_IntegrationTest {
     private MockMvc mockMvc;
     @Autowired
     private EntityManager em;
+    @Autowired
+    private MeetingSummaryProjector meetingSummaryProjector;
 
     @Test
     void meetingQuery() throws Exception {
@@ -49,7 +53,9 @@ class MeetingQuery_IntegrationTest {
                 .build();
         em.persist(address1);
         em.persist(address2);
-        em.persist(generateMeeting(user.getId(), List.of(address1.getId(), address2.getId())));
+        Meeting meeting = generateMeeting(user.getId(), List.of(address1.getId(), address2.getId()));
+        em.persist(meeting);
+        meetingSummaryProjector.project(List.of(meeting.getId()));
 
         // when
         ResultActions actions = mockMvc.perform(
@@ -1,14 +1,14 @@
 package com.example.momobe.meeting.integration;
 
 import com.example.momobe.common.config.RedisTestConfig;
+import com.example.momobe.meeting.application.MeetingSummaryProjector;
+import com.example.momobe.meeting.dao.MeetingRankCacheRepository;
 import com.example.momobe.meeting.domain.DateTimeInfo;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.meeting.domain.MeetingRankingStore;
 import com.example.momobe.meeting.domain.enums.Category;
 import com.example.momobe.meeting.domain.enums.DatePolicy;
 import com.example.momobe.meeting.domain.enums.MeetingState;
-import com.example.momobe.meeting.dto.out.MeetingRankDto;
-import com.example.momobe.meeting.ui.MeetingQueryController;
 import com.example.momobe.user.domain.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +25,8 @@ import javax.persistence.EntityManager;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
 
 import static com.example.momobe.common.enums.TestConstants.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -42,10 +44,13 @@ public class MeetingRank_IntegrationTest extends RedisTestConfig {
     EntityManager entityManager;
 
     @Autowired
-    MeetingQueryController meetingQueryController;
+    MeetingRankingStore meetingRankingStore;
 
     @Autowired
-    MeetingRankingStore<MeetingRankDto> meetingRankingStore;
+    MeetingSummaryProjector meetingSummaryProjector;
+
+    @Autowired
+    MeetingRankCacheRepository meetingRankCacheRepository;
 
     Meeting meeting1;
     Meeting meeting2;
@@ -53,6 +58,7 @@ public class MeetingRank_IntegrationTest extends RedisTestConfig {
     @BeforeEach
     void init () {
         meetingRankingStore.deleteAll();
+        meetingRankCacheRepository.evictAll();
 
         User user = User.builder()
                 .email(new Email(EMAIL1))
@@ -103,6 +109,7 @@ public class MeetingRank_IntegrationTest extends RedisTestConfig {
 
         entityManager.persist(meeting1);
         entityManager.persist(meeting2);
+        meetingSummaryProjector.project(List.of(meeting1.getId(), meeting2.getId()));
     }
 
     @Test
@@ -110,6 +117,7 @@ public class MeetingRank_IntegrationTest extends RedisTestConfig {
     void rankTest1() throws Exception {
         //given
         //when
+        meetingRankingStore.flush();
         ResultActions result = mockMvc.perform(get("/ranks"));
 
         //then
@@ -117,13 +125,41 @@ public class MeetingRank_IntegrationTest extends RedisTestConfig {
                 .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    @DisplayName("모임 제목이 바뀌어도 같은 모임의 조회수로 합산된다")
+    void rankTest4() throws Exception {
+        //given
+        view(meeting1.getId(), UUID.randomUUID().toString());
+        view(meeting2.getId(), UUID.randomUUID().toString());
+        view(meeting2.getId(), UUID.randomUUID().toString());
+        entityManager.createQuery("update Meeting m set m.title = :title where m.id = :id")
+                .setParameter("title", TITLE2)
+                .setParameter("id", meeting1.getId())
+                .executeUpdate();
+        entityManager.clear();
+        meetingSummaryProjector.project(List.of(meeting1.getId()));
+        view(meeting1.getId(), UUID.randomUUID().toString());
+        view(meeting1.getId(), UUID.randomUUID().toString());
+
+        //when
+        meetingRankingStore.flush();
+        ResultActions result = mockMvc.perform(get("/ranks"));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].meetingId").value(meeting1.getId()))
+                .andExpect(jsonPath("$[0].title").value(TITLE2));
+    }
+
     @Test
     @DisplayName("meeting1의 조회수가 1일 때 meeting1에 대한 정보가 반환됨")
     void rankTest2() throws Exception {
         //given
-        meetingQueryController.meetingDetailQuery(meeting1.getId());
+        view(meeting1.getId(), UUID.randomUUID().toString());
 
         //when
+        meetingRankingStore.flush();
         ResultActions result = mockMvc.perform(get("/ranks"));
 
         //then
@@ -135,11 +171,32 @@ public class MeetingRank_IntegrationTest extends RedisTestConfig {
     @DisplayName("meeting2의 조회수가 2, meeting1의 조회수가 1일 때 0번째 배열에 meeting2, 1번째 배열에 meeting1의 정보가 반환됨")
     void rankTest3() throws Exception {
         //given
-        meetingQueryController.meetingDetailQuery(meeting1.getId());
-        meetingQueryController.meetingDetailQuery(meeting2.getId());
-        meetingQueryController.meetingDetailQuery(meeting2.getId());
+        view(meeting1.getId(), UUID.randomUUID().toString());
+        view(meeting2.getId(), UUID.randomUUID().toString());
+        view(meeting2.getId(), UUID.randomUUID().toString());
+
+        //when
+        meetingRankingStore.flush();
+        ResultActions result = mockMvc.perform(get("/ranks"));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].meetingId").value(meeting2.getId()))
+                .andExpect(jsonPath("$[1].meetingId").value(meeting1.getId()));
+    }
+
+    @Test
+    @DisplayName("같은 IP 에서 반복 조회한 모임은 한 번만 집계된다")
+    void rankTest5() throws Exception {
+        //given
+        for (int i = 0; i < 5; i++) {
+            view(meeting1.getId(), "10.0.0.1");
+        }
+        view(meeting2.getId(), "10.0.0.1");
+        view(meeting2.getId(), "10.0.0.2");
 
         //when
+        meetingRankingStore.flush();
         ResultActions result = mockMvc.perform(get("/ranks"));
 
         //then
@@ -147,4 +204,12 @@ public class MeetingRank_IntegrationTest extends RedisTestConfig {
                 .andExpect(jsonPath("$[0].meetingId").value(meeting2.getId()))
                 .andExpect(jsonPath("$[1].meetingId").value(meeting1.getId()));
     }
+
+    private void view(Long meetingId, String ip) throws Exception {
+        mockMvc.perform(get("/meetings/{meeting-id}", meetingId)
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                }));
+    }
 }
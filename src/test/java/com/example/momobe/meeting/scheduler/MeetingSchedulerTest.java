@@ -0,0 +1,66 @@
+package com.example.momobe.meeting.scheduler;
+
+import com.example.momobe.meeting.application.MeetingAutoCloseService;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.MeetingSummaryBackfillService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
+import com.example.momobe.meeting.domain.MeetingRankingStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSchedulerTest {
+    @InjectMocks
+    MeetingScheduler meetingScheduler;
+
+    @Mock
+    MeetingAutoCloseService meetingAutoCloseService;
+
+    @Mock
+    MeetingParticipantCountService meetingParticipantCountService;
+
+    @Mock
+    MeetingSummaryBackfillService meetingSummaryBackfillService;
+
+    @Mock
+    SlotOccupancyService slotOccupancyService;
+
+    @Mock
+    MeetingRankingStore meetingRankingStore;
+
+    @Test
+    @DisplayName("참여 인원 재계산이 실패해도 슬롯 점유 재계산과 요약 재생성은 실행한다")
+    void reconcileParticipantsTest1() {
+        // given
+        willThrow(new IllegalStateException()).given(meetingParticipantCountService).reconcile();
+
+        // when
+        assertThatCode(() -> meetingScheduler.reconcileParticipants()).doesNotThrowAnyException();
+
+        // then
+        then(slotOccupancyService).should().reconcile();
+        then(meetingSummaryBackfillService).should().rebuild();
+    }
+
+    @Test
+    @DisplayName("슬롯 점유 재계산이 실패해도 요약 재생성은 실행한다")
+    void reconcileParticipantsTest2() {
+        // given
+        willThrow(new IllegalStateException()).given(slotOccupancyService).reconcile();
+
+        // when
+        assertThatCode(() -> meetingScheduler.reconcileParticipants()).doesNotThrowAnyException();
+
+        // then
+        then(meetingParticipantCountService).should().reconcile();
+        then(meetingSummaryBackfillService).should().rebuild();
+    }
+}
@@ -5,6 +5,7 @@ import com.example.momobe.common.config.SecurityTestConfig;
 import com.example.momobe.common.exception.ui.ExceptionController;
 import com.example.momobe.common.resolver.JwtArgumentResolver;
 import com.example.momobe.meeting.dao.MeetingDao;
+import com.example.momobe.meeting.dao.SlotOccupancyDao;
 import com.example.momobe.meeting.domain.enums.Category;
 import com.example.momobe.meeting.domain.enums.DatePolicy;
 import com.example.momobe.meeting.dto.out.ResponseMeetingDatesDto;
@@ -49,6 +50,9 @@ class MeetingDatesQueryControllerTest {
     @MockBean
     MeetingDao meetingDao;
 
+    @MockBean
+    SlotOccupancyDao slotOccupancyDao;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -89,7 +93,8 @@ class MeetingDatesQueryControllerTest {
 
         List<ResponseMeetingDatesDto> respone = List.of(dto1, dto2);
 
-        BDDMockito.given(meetingDao.getMonthlyReservationSchedule(meetingId, localDate.getMonthValue())).willReturn(respone);
+        LocalDateTime from = localDate.withDayOfMonth(1).atStartOfDay();
+        BDDMockito.given(slotOccupancyDao.findSchedule(meetingId, from, from.plusMonths(1))).willReturn(respone);
 
         //when
         ResultActions perform = mockMvc.perform(get("/meetings/{meetingId}/reservations/dates/{date}", meetingId, localDate)
@@ -1,17 +1,28 @@
 package com.example.momobe.meeting.ui;
 
 import com.example.momobe.common.config.SecurityTestConfig;
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
+import com.example.momobe.common.exception.enums.ErrorCode;
 import com.example.momobe.common.resolver.JwtArgumentResolver;
-import com.example.momobe.meeting.dao.MeetingDetailQueryRepository;
+import com.example.momobe.meeting.dao.MeetingDetailCacheRepository;
+import com.example.momobe.meeting.dao.MeetingFacetQueryRepository;
+import com.example.momobe.meeting.dao.MeetingPageCacheRepository;
 import com.example.momobe.meeting.dao.MeetingQueryRepository;
+import com.example.momobe.meeting.domain.MeetingException;
 import com.example.momobe.meeting.domain.MeetingRankingStore;
+import com.example.momobe.meeting.domain.MeetingTagIndex;
+import com.example.momobe.meeting.domain.MeetingVersionStore;
 import com.example.momobe.meeting.domain.enums.DatePolicy;
+import com.example.momobe.meeting.domain.enums.MeetingDetailSection;
+import com.example.momobe.meeting.domain.enums.TagMatch;
+import com.example.momobe.meeting.dto.out.MeetingBatchResponseDto;
 import com.example.momobe.meeting.dto.out.MeetingDetailResponseDto;
-import com.example.momobe.meeting.dto.out.MeetingRankDto;
+import com.example.momobe.meeting.dto.out.MeetingFacetResponseDto;
 import com.example.momobe.meeting.dto.out.MeetingResponseDto;
-import com.example.momobe.meeting.mapper.MeetingRankMapper;
 import com.example.momobe.question.dto.out.ResponseQuestionDto;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -25,25 +36,41 @@ import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static com.example.momobe.common.config.ApiDocumentUtils.getDocumentRequest;
 import static com.example.momobe.common.config.ApiDocumentUtils.getDocumentResponse;
 import static com.example.momobe.common.enums.PageConstants.*;
 import static com.example.momobe.common.enums.TestConstants.*;
+import static com.example.momobe.meeting.constants.MeetingConstants.BATCH_LIMIT;
 import static com.example.momobe.meeting.domain.enums.Category.SOCIAL;
 import static com.example.momobe.meeting.domain.enums.MeetingState.OPEN;
 import static com.example.momobe.meeting.enums.MeetingConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.JsonFieldType.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(MeetingQueryController.class)
@@ -61,13 +88,22 @@ class MeetingQueryControllerTest {
     private MeetingQueryRepository meetingQueryRepository;
 
     @MockBean
-    private MeetingDetailQueryRepository meetingDetailQueryRepository;
+    private MeetingDetailCacheRepository meetingDetailCacheRepository;
 
     @MockBean
-    private MeetingRankingStore<MeetingRankDto> meetingRankingStore;
+    private MeetingFacetQueryRepository meetingFacetQueryRepository;
 
     @MockBean
-    private MeetingRankMapper meetingRankMapper;
+    private MeetingPageCacheRepository meetingPageCacheRepository;
+
+    @MockBean
+    private MeetingRankingStore meetingRankingStore;
+
+    @MockBean
+    private MeetingVersionStore meetingVersionStore;
+
+    @MockBean
+    private MeetingTagIndex meetingTagIndex;
 
     @Test
     void meetingQuery() throws Exception {
@@ -81,7 +117,7 @@ class MeetingQueryControllerTest {
                 List.of(1, 3, 7), List.of(LocalDate.now(), LocalDate.now().plusDays(1)));
         PageRequest pageRequest = PageRequest.of(PAGE - 1, SIZE);
 
-        given(meetingQueryRepository.findAll(eq(TITLE1), eq(SOCIAL), eq("온라인"), any(PageRequest.class)))
+        given(meetingPageCacheRepository.findAll(eq(TITLE1), eq(SOCIAL), eq(List.of("온라인", "주말")), eq(TagMatch.OR), any(PageRequest.class)))
                 .willReturn(new PageImpl<>(List.of(meetingResponseDto), pageRequest, 1L));
 
         // when
@@ -90,6 +126,8 @@ class MeetingQueryControllerTest {
                         .param("keyword", TITLE1)
                         .param("category", String.valueOf(SOCIAL))
                         .param("tag", "온라인")
+                        .param("tag", "주말")
+                        .param("tagMatch", String.valueOf(TagMatch.OR))
                         .param("page", String.valueOf(PAGE))
                         .param("size", String.valueOf(SIZE))
         );
@@ -102,7 +140,8 @@ class MeetingQueryControllerTest {
                         requestParameters(
                                 parameterWithName("keyword").description("검색어"),
                                 parameterWithName("category").description("카테고리"),
-                                parameterWithName("tag").description("태그"),
+                                parameterWithName("tag").description("태그 (여러 개 지정 가능)"),
+                                parameterWithName("tagMatch").description("태그 조건 (AND: 모두 포함, OR: 하나 이상 포함, 기본값 AND)"),
                                 PWN_PAGE, PWN_SIZE
                         ),
                         responseFields(
@@ -124,6 +163,96 @@ class MeetingQueryControllerTest {
                 ));
     }
 
+    @Test
+    void meetingCursorQuery() throws Exception {
+        // given
+        MeetingResponseDto meetingResponseDto = new MeetingResponseDto(
+                ID1, SOCIAL, ID1, NICKNAME, EMAIL1, REMOTE_PATH, TITLE1, CONTENT1, SUB_ADDRESS1, OPEN,
+                DatePolicy.FREE, START_DATE, END_DATE, START_TIME, END_TIME, 3, 1000L, 3L, 2L
+        );
+        meetingResponseDto.init(
+                List.of("서울시 강남구", "서울시 강북구"),
+                List.of(1, 3, 7), List.of(LocalDate.now(), LocalDate.now().plusDays(1)));
+        CursorSlice<MeetingResponseDto> slice = CursorSlice.of(
+                List.of(meetingResponseDto, meetingResponseDto), 1,
+                dto -> new Cursor(LocalDateTime.now(), dto.getMeetingId()));
+
+        given(meetingQueryRepository.findAll(any(), any(), any(), any(), isNull(), eq(1)))
+                .willReturn(slice);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/meetings")
+                        .param("cursor", "")
+                        .param("size", "1")
+        );
+
+        // then
+        actions.andExpect(status().isOk())
+                .andDo(document("meeting/query/cursor",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 요청은 빈 값)"),
+                                PWN_SIZE
+                        ),
+                        responseFields(
+                                FWP_CONTENT, FWP_CONTENT_MEETING_ID, FWP_CONTENT_CATEGORY,
+                                FWP_CONTENT_HOST, FWP_CONTENT_HOST_USER_ID, FWP_CONTENT_HOST_NICKNAME,
+                                FWP_CONTENT_HOST_IMAGE_URL, FWP_CONTENT_HOST_EMAIL,
+                                FWP_CONTENT_TITLE, FWP_CONTENT_CONTENT,
+                                FWP_CONTENT_ADDRESS, FWP_CONTENT_ADDRESS_ADDRESSES, FWP_CONTENT_ADDRESS_ADDRESS_INFO,
+                                FWP_CONTENT_MEETING_STATE, FWP_CONTENT_IS_OPEN,
+                                FWP_CONTENT_DATE_TIME, FWP_CONTENT_DATE_TIME_DATE_POLICY, FWP_CONTENT_DATE_TIME_START_DATE,
+                                FWP_CONTENT_DATE_TIME_END_DATE, FWP_CONTENT_DATE_TIME_START_TIME, FWP_CONTENT_DATE_TIME_END_TIME,
+                                FWP_CONTENT_DATE_TIME_MAX_TIME, FWP_CONTENT_DATE_TIME_DAY_WEEKS, FWP_CONTENT_DATE_TIME_DATES,
+                                FWP_CONTENT_PRICE,
+                                fieldWithPath("content[].detailState").type(STRING).description("프론트 페이지용 상태 정보"),
+                                fieldWithPath("nextCursor").type(STRING).description("다음 페이지 커서 (마지막 페이지면 없음)")
+                        )
+
+                ));
+    }
+
+    @Test
+    void meetingFacetQuery() throws Exception {
+        // given
+        MeetingFacetResponseDto meetingFacetResponseDto = MeetingFacetResponseDto.of(
+                Map.of(SOCIAL, 3L),
+                Map.of("온라인", 2L));
+
+        given(meetingFacetQueryRepository.findFacets(eq(TITLE1), isNull(), eq(List.of("온라인")), isNull()))
+                .willReturn(meetingFacetResponseDto);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/meetings/facets")
+                        .param("keyword", TITLE1)
+                        .param("tag", "온라인")
+        );
+
+        // then
+        actions.andExpect(status().isOk())
+                .andDo(document("meeting/query/facets",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("keyword").description("검색어"),
+                                parameterWithName("tag").description("태그 (여러 개 지정 가능, 모임 목록 조회와 동일)")
+                        ),
+                        responseFields(
+                                fieldWithPath("totalElements").type(NUMBER).description("조건에 해당하는 모임 수"),
+                                fieldWithPath("categories").type(ARRAY).description("카테고리별 모임 수"),
+                                fieldWithPath("categories[].category").type(STRING).description("카테고리"),
+                                fieldWithPath("categories[].description").type(STRING).description("카테고리 이름"),
+                                fieldWithPath("categories[].count").type(NUMBER).description("모임 수"),
+                                fieldWithPath("tags").type(ARRAY).description("태그별 모임 수 (많은 순)"),
+                                fieldWithPath("tags[].name").type(STRING).description("태그"),
+                                fieldWithPath("tags[].count").type(NUMBER).description("모임 수")
+                        )
+                ));
+    }
+
     @Test
     void meetingDetailQuery() throws Exception {
         // given
@@ -144,7 +273,9 @@ class MeetingQueryControllerTest {
 
         meetingDetailResponseDto.init(List.of(responseQuestionDto));
 
-        given(meetingDetailQueryRepository.findById(ID1))
+        given(meetingVersionStore.getVersion(ID1)).willReturn(3L);
+        given(meetingVersionStore.generateETag(ID1, 3L)).willReturn("W/\"1-3\"");
+        given(meetingDetailCacheRepository.findById(ID1, 3L, MeetingDetailSection.of(null)))
                 .willReturn(meetingDetailResponseDto);
 
         // when
@@ -154,6 +285,7 @@ class MeetingQueryControllerTest {
 
         // then
         actions.andExpect(status().isOk())
+                .andExpect(header().string(ETAG, "W/\"1-3\""))
                 .andDo(document("meeting/query/detail",
                         getDocumentRequest(),
                         getDocumentResponse(),
@@ -213,4 +345,194 @@ class MeetingQueryControllerTest {
                 ));
     }
 
-}
\ No newline at end of file
+    @Test
+    void meetingDetailQueryWithInclude() throws Exception {
+        // given
+        MeetingDetailResponseDto meetingDetailResponseDto = new MeetingDetailResponseDto(
+                ID1, SOCIAL, ID1, NICKNAME, REMOTE_PATH, EMAIL1, TITLE1, CONTENT1, SUB_ADDRESS1, OPEN,
+                DatePolicy.FREE, START_DATE, END_DATE, START_TIME, END_TIME, 3, 1000L, 5,
+                null, null, new LinkedHashSet<>(List.of("온라인", "오프라인")),
+                List.of(LocalDateTime.now(), LocalDateTime.now().plusDays(1)), 3L, 2L);
+
+        given(meetingVersionStore.getVersion(ID1)).willReturn(3L);
+        given(meetingDetailCacheRepository.findById(ID1, 3L, EnumSet.of(MeetingDetailSection.TAGS, MeetingDetailSection.DATES)))
+                .willReturn(meetingDetailResponseDto);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/meetings/{meeting-id}", ID1)
+                        .param("include", "TAGS,DATES")
+        );
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags").isArray())
+                .andExpect(jsonPath("$.address.addresses").doesNotExist())
+                .andExpect(jsonPath("$.addressIds").doesNotExist())
+                .andExpect(jsonPath("$.questions").doesNotExist())
+                .andDo(document("meeting/query/detail-include",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        PATH_PARAM_MEETING_ID,
+                        requestParameters(
+                                parameterWithName("include").description(
+                                        "조회할 항목 (ADDRESSES, TAGS, DATES, QUESTIONS 중 쉼표로 구분, 생략 시 전체)")
+                        )
+                ));
+    }
+
+    @Test
+    void meetingDetailQueryViewerByRemoteAddr() throws Exception {
+        // given
+        MeetingDetailResponseDto meetingDetailResponseDto = new MeetingDetailResponseDto(
+                ID1, SOCIAL, ID1, NICKNAME, REMOTE_PATH, EMAIL1, TITLE1, CONTENT1, SUB_ADDRESS1, OPEN,
+                DatePolicy.FREE, START_DATE, END_DATE, START_TIME, END_TIME, 3, 1000L, 5,
+                null, null, null, null, 3L, 2L);
+
+        given(meetingVersionStore.getVersion(ID1)).willReturn(3L);
+        given(meetingDetailCacheRepository.findById(ID1, 3L, MeetingDetailSection.of(null)))
+                .willReturn(meetingDetailResponseDto);
+
+        // when
+        for (String remoteAddr : List.of("203.0.113.1", "203.0.113.2", "203.0.113.1")) {
+            mockMvc.perform(get("/meetings/{meeting-id}", ID1)
+                            .with(request -> {
+                                request.setRemoteAddr(remoteAddr);
+                                return request;
+                            }))
+                    .andExpect(status().isOk());
+        }
+
+        // then
+        ArgumentCaptor<String> viewers = ArgumentCaptor.forClass(String.class);
+        verify(meetingRankingStore, times(3)).increaseScore(eq(ID1), viewers.capture(), any(), any());
+        assertThat(viewers.getAllValues()).allMatch(viewer -> viewer.startsWith("ip:"));
+        assertThat(viewers.getAllValues().get(0)).isNotEqualTo(viewers.getAllValues().get(1));
+        assertThat(viewers.getAllValues().get(0)).isEqualTo(viewers.getAllValues().get(2));
+    }
+
+    @Test
+    void meetingDetailQueryNotModified() throws Exception {
+        // given
+        given(meetingVersionStore.getVersion(ID1)).willReturn(3L);
+        given(meetingVersionStore.generateETag(ID1, 3L)).willReturn("W/\"1-3\"");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/meetings/{meeting-id}", ID1)
+                        .header(IF_NONE_MATCH, "W/\"1-3\"")
+        );
+
+        // then
+        actions.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(meetingDetailCacheRepository, never()).findById(any(), anyLong(), any());
+    }
+
+    @Test
+    void meetingDetailQueryWithoutVersion() throws Exception {
+        // given
+        MeetingDetailResponseDto meetingDetailResponseDto = new MeetingDetailResponseDto(
+                ID1, SOCIAL, ID1, NICKNAME, REMOTE_PATH, EMAIL1, TITLE1, CONTENT1, SUB_ADDRESS1, OPEN,
+                DatePolicy.FREE, START_DATE, END_DATE, START_TIME, END_TIME, 3, 1000L, 5,
+                null, null, null, null, 3L, 2L);
+
+        given(meetingVersionStore.getVersion(ID1)).willReturn(MeetingVersionStore.NO_VERSION);
+        given(meetingDetailCacheRepository.findById(ID1, MeetingVersionStore.NO_VERSION, MeetingDetailSection.of(null)))
+                .willReturn(meetingDetailResponseDto);
+        given(meetingVersionStore.initVersion(ID1)).willReturn(5L);
+        given(meetingVersionStore.generateETag(ID1, 5L)).willReturn("W/\"1-5\"");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/meetings/{meeting-id}", ID1)
+                        .header(IF_NONE_MATCH, "W/\"1-0\"")
+        );
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(header().string(ETAG, "W/\"1-5\""));
+        verify(meetingVersionStore).initVersion(ID1);
+    }
+
+    @Test
+    void meetingDetailQueryWithoutVersionNotFound() throws Exception {
+        // given
+        given(meetingVersionStore.getVersion(ID1)).willReturn(MeetingVersionStore.NO_VERSION);
+        given(meetingDetailCacheRepository.findById(ID1, MeetingVersionStore.NO_VERSION, MeetingDetailSection.of(null)))
+                .willThrow(new MeetingException(ErrorCode.DATA_NOT_FOUND));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/meetings/{meeting-id}", ID1)
+                        .header(IF_NONE_MATCH, "W/\"1-0\"")
+        );
+
+        // then
+        actions.andExpect(status().isNotFound());
+        verify(meetingVersionStore, never()).initVersion(any());
+    }
+
+    @Test
+    void meetingBatchQuery() throws Exception {
+        // given
+        MeetingResponseDto meetingResponseDto = new MeetingResponseDto(
+                ID1, SOCIAL, ID1, NICKNAME, EMAIL1, REMOTE_PATH, TITLE1, CONTENT1, SUB_ADDRESS1, OPEN,
+                DatePolicy.FREE, START_DATE, END_DATE, START_TIME, END_TIME, 3, 1000L, 3L, 2L
+        );
+        meetingResponseDto.init(
+                List.of("서울시 강남구", "서울시 강북구"),
+                List.of(1, 3, 7), List.of(LocalDate.now(), LocalDate.now().plusDays(1)));
+
+        given(meetingQueryRepository.findAllByIds(List.of(ID1, ID2)))
+                .willReturn(new MeetingBatchResponseDto(List.of(meetingResponseDto), List.of(ID2)));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/meetings/batch")
+                        .param("ids", ID1 + "," + ID2)
+        );
+
+        // then
+        actions.andExpect(status().isOk())
+                .andDo(document("meeting/query/batch",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("ids").description("모임 식별자 (쉼표로 구분, 최대 100개)")
+                        ),
+                        responseFields(
+                                FWP_CONTENT, FWP_CONTENT_MEETING_ID, FWP_CONTENT_CATEGORY,
+                                FWP_CONTENT_HOST, FWP_CONTENT_HOST_USER_ID, FWP_CONTENT_HOST_NICKNAME,
+                                FWP_CONTENT_HOST_IMAGE_URL, FWP_CONTENT_HOST_EMAIL,
+                                FWP_CONTENT_TITLE, FWP_CONTENT_CONTENT,
+                                FWP_CONTENT_ADDRESS, FWP_CONTENT_ADDRESS_ADDRESSES, FWP_CONTENT_ADDRESS_ADDRESS_INFO,
+                                FWP_CONTENT_MEETING_STATE, FWP_CONTENT_IS_OPEN,
+                                FWP_CONTENT_DATE_TIME, FWP_CONTENT_DATE_TIME_DATE_POLICY, FWP_CONTENT_DATE_TIME_START_DATE,
+                                FWP_CONTENT_DATE_TIME_END_DATE, FWP_CONTENT_DATE_TIME_START_TIME, FWP_CONTENT_DATE_TIME_END_TIME,
+                                FWP_CONTENT_DATE_TIME_MAX_TIME, FWP_CONTENT_DATE_TIME_DAY_WEEKS, FWP_CONTENT_DATE_TIME_DATES,
+                                FWP_CONTENT_PRICE,
+                                fieldWithPath("content[].detailState").type(STRING).description("프론트 페이지용 상태 정보"),
+                                fieldWithPath("missingIds").type(ARRAY).description("존재하지 않는 모임 식별자")
+                        )
+                ));
+    }
+
+    @Test
+    void meetingBatchQueryExceededSize() throws Exception {
+        // given
+        String ids = LongStream.rangeClosed(1, BATCH_LIMIT + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/meetings/batch")
+                        .param("ids", ids)
+        );
+
+        // then
+        actions.andExpect(status().isBadRequest());
+        verify(meetingQueryRepository, never()).findAllByIds(any());
+    }
+}
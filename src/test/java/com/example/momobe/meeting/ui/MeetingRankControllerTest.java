@@ -6,7 +6,9 @@ import com.example.momobe.common.enums.TestConstants;
 import com.example.momobe.common.exception.ui.ExceptionController;
 import com.example.momobe.common.resolver.JwtArgumentResolver;
 import com.example.momobe.meeting.constants.MeetingConstants;
-import com.example.momobe.meeting.domain.MeetingRankingStore;
+import com.example.momobe.meeting.dao.MeetingRankCacheRepository;
+import com.example.momobe.meeting.domain.enums.Category;
+import com.example.momobe.meeting.domain.enums.RankingWindow;
 import com.example.momobe.meeting.dto.out.MeetingRankDto;
 import com.example.momobe.payment.ui.PaymentSuccessController;
 import org.aspectj.apache.bcel.generic.ObjectType;
@@ -33,6 +35,9 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WithMockUser
@@ -48,7 +53,7 @@ class MeetingRankControllerTest {
     JwtArgumentResolver jwtArgumentResolver;
 
     @MockBean
-    MeetingRankingStore<MeetingRankDto> meetingRankingStore;
+    MeetingRankCacheRepository meetingRankCacheRepository;
 
     @Test
     @DisplayName("랭킹 조회 200 테스트")
@@ -61,7 +66,7 @@ class MeetingRankControllerTest {
                 .title(TITLE1)
                 .build();
 
-        BDDMockito.given(meetingRankingStore.getRanks(RANKING_CACHE_KEY, 0, 9, MeetingRankDto.class))
+        BDDMockito.given(meetingRankCacheRepository.findRanks(RankingWindow.ALL))
                 .willReturn(List.of(dto, dto, dto));
 
         //when
@@ -81,4 +86,91 @@ class MeetingRankControllerTest {
                         )
                         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("기간별 랭킹 조회 200 테스트")
+    void getRankWithWindowTest() throws Exception {
+        //given
+        MeetingRankDto dto = MeetingRankDto.builder()
+                .meetingId(ID1)
+                .content(CONTENT1)
+                .imageUrl(TISTORY_URL)
+                .title(TITLE1)
+                .build();
+
+        BDDMockito.given(meetingRankCacheRepository.findRanks(RankingWindow.DAY))
+                .willReturn(List.of(dto));
+
+        //when
+        ResultActions result = mockMvc.perform(get("/ranks").param("window", "DAY"));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].meetingId").value(ID1))
+                .andDo(document("rankings/window",
+                        ApiDocumentUtils.getDocumentRequest(),
+                        ApiDocumentUtils.getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("window").description("집계 기간 (HOUR: 최근 1시간, DAY: 최근 24시간, WEEK: 최근 7일, 생략 시 전체)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("카테고리별 랭킹 조회 200 테스트")
+    void getRankWithCategoryTest() throws Exception {
+        //given
+        MeetingRankDto dto = MeetingRankDto.builder()
+                .meetingId(ID1)
+                .content(CONTENT1)
+                .imageUrl(TISTORY_URL)
+                .title(TITLE1)
+                .build();
+
+        BDDMockito.given(meetingRankCacheRepository.findRanks(Category.DEVELOP))
+                .willReturn(List.of(dto));
+
+        //when
+        ResultActions result = mockMvc.perform(get("/ranks").param("category", "DEVELOP"));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].meetingId").value(ID1))
+                .andDo(document("rankings/category",
+                        ApiDocumentUtils.getDocumentRequest(),
+                        ApiDocumentUtils.getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("category").description("카테고리")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("태그별 랭킹 조회 200 테스트")
+    void getRankWithTagTest() throws Exception {
+        //given
+        MeetingRankDto dto = MeetingRankDto.builder()
+                .meetingId(ID1)
+                .content(CONTENT1)
+                .imageUrl(TISTORY_URL)
+                .title(TITLE1)
+                .build();
+
+        BDDMockito.given(meetingRankCacheRepository.findRanksByTag("온라인"))
+                .willReturn(List.of(dto));
+
+        //when
+        ResultActions result = mockMvc.perform(get("/ranks").param("tag", "온라인"));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].meetingId").value(ID1))
+                .andDo(document("rankings/tag",
+                        ApiDocumentUtils.getDocumentRequest(),
+                        ApiDocumentUtils.getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("tag").description("태그 이름")
+                        )
+                ));
+    }
+}
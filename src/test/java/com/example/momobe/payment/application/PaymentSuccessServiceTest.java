@@ -0,0 +1,58 @@
+package com.example.momobe.payment.application;
+
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
+import com.example.momobe.payment.dao.PaymentReadDao;
+import com.example.momobe.payment.dao.PaymentUpdateDao;
+import com.example.momobe.payment.domain.Payment;
+import com.example.momobe.payment.domain.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static com.example.momobe.common.enums.TestConstants.*;
+import static com.example.momobe.reservation.domain.enums.ReservationState.PAYMENT_SUCCESS;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentSuccessServiceTest {
+    @Mock
+    PaymentUpdateDao paymentUpdateDao;
+
+    @Mock
+    PaymentReadDao paymentReadDao;
+
+    @Mock
+    PaymentRepository paymentRepository;
+
+    @Mock
+    MeetingParticipantCountService meetingParticipantCountService;
+
+    @Mock
+    SlotOccupancyService slotOccupancyService;
+
+    @InjectMocks
+    PaymentSuccessService paymentSuccessService;
+
+    @Test
+    @DisplayName("같은 주문의 결제 승인 콜백이 두 번 와도 참여 인원은 1회만 증가한다")
+    void setSuccessStateTest1() {
+        //given
+        given(paymentRepository.findPaymentByOrderId(ID)).willReturn(Optional.of(Payment.builder().build()));
+        given(paymentReadDao.getReservationIdByOrderId(ID)).willReturn(ID1);
+        given(paymentUpdateDao.setReservationState(PAYMENT_SUCCESS, ID1)).willReturn(1, 0);
+
+        //when
+        paymentSuccessService.setSuccessState(ID);
+        paymentSuccessService.setSuccessState(ID);
+
+        //then
+        verify(meetingParticipantCountService, Mockito.times(1)).increaseByReservationId(ID1);
+    }
+}
@@ -62,4 +62,25 @@ class PaymentUpdateDaoTest {
         Reservation result = entityManager.find(Reservation.class, reservation.getId());
         assertThat(result.getReservationState()).isEqualTo(ReservationState.CANCEL);
     }
+
+    @Test
+    @DisplayName("이미 같은 상태인 reservation은 변경되지 않고 0을 반환한다")
+    void setReservationStateTest3() {
+        //given
+        Reservation reservation = Reservation.builder()
+                .reservationState(ReservationState.PAYMENT_BEFORE)
+                .build();
+
+        entityManager.persist(reservation);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        int first = paymentUpdateDao.setReservationState(ReservationState.PAYMENT_SUCCESS, reservation.getId());
+        int second = paymentUpdateDao.setReservationState(ReservationState.PAYMENT_SUCCESS, reservation.getId());
+
+        //then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+    }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.example.momobe.question.infrastructure;
 import com.example.momobe.answer.domain.Answer;
 import com.example.momobe.answer.domain.AnswerRepository;
 import com.example.momobe.common.config.JpaQueryFactoryConfig;
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.meeting.domain.MeetingRepository;
 import com.example.momobe.question.domain.Content;
@@ -24,6 +26,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.example.momobe.common.enums.TestConstants.*;
@@ -151,4 +154,51 @@ class QuestionQueryRepositoryTest {
         //then
         Assertions.assertThat(questions.get(0).getAnswers().size()).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("커서 조회는 작성 순으로 size 만큼 반환하고 다음 커서로 이어서 조회한다")
+    void getQuestionsByCursorTest() {
+        //given
+        Meeting meeting = generateMeeting();
+        meetingRepository.save(meeting);
+
+        User questioner = User.builder()
+                .email(new Email(EMAIL1))
+                .nickname(new Nickname(NICKNAME1))
+                .avatar(null)
+                .build();
+        userRepository.save(questioner);
+
+        List<Long> questionIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Question question = Question.builder()
+                    .meeting(new com.example.momobe.question.domain.Meeting(meeting.getId()))
+                    .content(new Content(CONTENT1))
+                    .writer(new Writer(questioner.getId()))
+                    .build();
+            questionRepository.save(question);
+            questionIds.add(question.getId());
+        }
+
+        answerRepository.save(Answer.builder()
+                .question(new com.example.momobe.answer.domain.Question(questionIds.get(3)))
+                .content(new com.example.momobe.answer.domain.Content(CONTENT2))
+                .writer(new com.example.momobe.answer.domain.Writer(questioner.getId()))
+                .build());
+
+        //when
+        CursorSlice<ResponseQuestionDto> first = questionQueryRepository.getQuestions(meeting.getId(), null, 3);
+        CursorSlice<ResponseQuestionDto> second =
+                questionQueryRepository.getQuestions(meeting.getId(), Cursor.decode(first.getNextCursor()), 3);
+
+        //then
+        assertThat(first.getContent()).extracting(ResponseQuestionDto::getQuestionId)
+                .containsExactlyElementsOf(questionIds.subList(0, 3));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(ResponseQuestionDto::getQuestionId)
+                .containsExactlyElementsOf(questionIds.subList(3, 5));
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent().get(0).getAnswers()).hasSize(1);
+        assertThat(second.getContent().get(1).getAnswers()).isEmpty();
+    }
 }
\ No newline at end of file
@@ -2,8 +2,13 @@ package com.example.momobe.question.ui;
 
 import com.example.momobe.common.config.ApiDocumentUtils;
 import com.example.momobe.common.config.SecurityTestConfig;
+import com.example.momobe.common.dto.Cursor;
+import com.example.momobe.common.dto.CursorSlice;
 import com.example.momobe.common.exception.ui.ExceptionController;
 import com.example.momobe.common.resolver.JwtArgumentResolver;
+import com.example.momobe.meeting.application.MeetingEventPublishService;
+import com.example.momobe.meeting.domain.MeetingVersionStore;
+import com.example.momobe.question.domain.Question;
 import com.example.momobe.question.domain.QuestionRepository;
 import com.example.momobe.question.dto.in.QuestionDto;
 import com.example.momobe.question.dto.out.ResponseQuestionDto;
@@ -30,12 +35,19 @@ import java.util.List;
 import static com.example.momobe.common.enums.TestConstants.*;
 import static org.aspectj.apache.bcel.generic.ObjectType.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -57,6 +69,12 @@ class QuestionControllerTest {
     @MockBean
     QuestionQueryRepository questionQueryRepository;
 
+    @MockBean
+    MeetingEventPublishService meetingEventPublishService;
+
+    @MockBean
+    MeetingVersionStore meetingVersionStore;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -103,24 +121,19 @@ class QuestionControllerTest {
                 .imageUrl(null)
                 .build();
 
-        ResponseQuestionDto.Answer answer = ResponseQuestionDto.Answer.builder()
-                .answerer(user)
-                .answerId(ID1)
-                .content(CONTENT1)
-                .createdAt(LocalDateTime.now())
-                .modifiedAt(LocalDateTime.now())
-                .build();
-
         ResponseQuestionDto question = ResponseQuestionDto.builder()
                 .questionId(ID1)
                 .questioner(user)
-                .answers(List.of(answer))
+                .answers(List.of())
                 .content(CONTENT1)
                 .createdAt(LocalDateTime.now())
                 .modifiedAt(LocalDateTime.now())
                 .build();
 
-        BDDMockito.given(questionQueryRepository.getQuestions(any())).willReturn(List.of(question, question));
+        BDDMockito.given(questionRepository.save(any())).willReturn(Question.builder().id(ID1).build());
+        BDDMockito.given(questionQueryRepository.getQuestion(ID1)).willReturn(question);
+        BDDMockito.given(meetingVersionStore.getVersion(ID1)).willReturn(3L);
+        BDDMockito.given(meetingVersionStore.generateETag(ID1, 3L)).willReturn("W/\"1-3\"");
 
         // when
         ResultActions perform = mockMvc.perform(post("/meetings/{meeting-id}/questions", 1L)
@@ -140,25 +153,18 @@ class QuestionControllerTest {
                                 fieldWithPath("content").description("질문 글 내용")
                         ),
                         responseFields(
-                                fieldWithPath("[].questionId").type(LONG).description("질문 아이디"),
-                                fieldWithPath("[].content").type(STRING).description("질문 내용"),
-                                fieldWithPath("[].questioner").type(OBJECT).description("질문자 정보"),
-                                fieldWithPath("[].questioner.userId").type(LONG).description("질문자 아이디"),
-                                fieldWithPath("[].questioner.email").type(STRING).description("질문자 이메일"),
-                                fieldWithPath("[].questioner.nickname").type(STRING).description("질문자 닉네임"),
-                                fieldWithPath("[].questioner.imageUrl").type(STRING).description("질문자 프로필 이미지"),
-                                fieldWithPath("[].createdAt").type(STRING).description("질문 작성일"),
-                                fieldWithPath("[].modifiedAt").type(STRING).description("질문 수정일"),
-                                fieldWithPath("[].answers").type(OBJECT_ARRAY).description("답변 목록"),
-                                fieldWithPath("[].answers[].answerId").type(STRING).description("답변 아이디"),
-                                fieldWithPath("[].answers[].content").type(STRING).description("답변 내용"),
-                                fieldWithPath("[].answers[].answerer").type(OBJECT).description("답변자 정보"),
-                                fieldWithPath("[].answers[].answerer.userId").type(LONG).description("답변자 아이디"),
-                                fieldWithPath("[].answers[].answerer.email").type(STRING).description("답변자 이메일"),
-                                fieldWithPath("[].answers[].answerer.nickname").type(STRING).description("답변자 닉네임"),
-                                fieldWithPath("[].answers[].answerer.imageUrl").type(STRING).description("답변자 프로필 이미지"),
-                                fieldWithPath("[].answers[].createdAt").type(STRING).description("답변 작성일"),
-                                fieldWithPath("[].answers[].modifiedAt").type(STRING).description("답변 수정일")
+                                fieldWithPath("item").type(OBJECT).description("작성한 질문"),
+                                fieldWithPath("item.questionId").type(LONG).description("질문 아이디"),
+                                fieldWithPath("item.content").type(STRING).description("질문 내용"),
+                                fieldWithPath("item.questioner").type(OBJECT).description("질문자 정보"),
+                                fieldWithPath("item.questioner.userId").type(LONG).description("질문자 아이디"),
+                                fieldWithPath("item.questioner.email").type(STRING).description("질문자 이메일"),
+                                fieldWithPath("item.questioner.nickname").type(STRING).description("질문자 닉네임"),
+                                fieldWithPath("item.questioner.imageUrl").type(STRING).description("질문자 프로필 이미지"),
+                                fieldWithPath("item.createdAt").type(STRING).description("질문 작성일"),
+                                fieldWithPath("item.modifiedAt").type(STRING).description("질문 수정일"),
+                                fieldWithPath("item.answers").type(OBJECT_ARRAY).description("답변 목록 (작성 시 빈 배열)"),
+                                fieldWithPath("version").type(STRING).description("작성 후 모임 버전 (If-None-Match 에 사용)")
                         ))
                 ).andDo(
                         print()
@@ -240,4 +246,73 @@ class QuestionControllerTest {
                         print()
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("질문/답변 글 조회시 ETag 가 같으면 스테이터스 코드 304 반환")
+    void getQuestions_notModified_304() throws Exception {
+        // given
+        BDDMockito.given(meetingVersionStore.getVersion(ID1)).willReturn(3L);
+        BDDMockito.given(meetingVersionStore.generateETag(ID1, 3L)).willReturn("W/\"1-3\"");
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/meetings/{meeting-id}/qna", ID1)
+                .header(IF_NONE_MATCH, "W/\"1-3\""));
+
+        // then
+        perform.andExpect(status().isNotModified());
+        verify(questionQueryRepository, never()).getQuestions(any());
+    }
+
+    @Test
+    @DisplayName("질문/답변 커서 조회시 스테이터스 코드 200과 다음 커서 반환")
+    void getQuestionsByCursor_success_200() throws Exception {
+        // given
+        ResponseQuestionDto.User user = ResponseQuestionDto.User.builder()
+                .userId(ID1)
+                .nickname(NICKNAME1)
+                .email(EMAIL1)
+                .imageUrl(null)
+                .build();
+
+        ResponseQuestionDto question = ResponseQuestionDto.builder()
+                .questionId(ID1)
+                .questioner(user)
+                .answers(List.of())
+                .content(CONTENT1)
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+
+        BDDMockito.given(questionQueryRepository.getQuestions(eq(ID1), isNull(), eq(1)))
+                .willReturn(CursorSlice.of(List.of(question, question), 1,
+                        dto -> new Cursor(dto.getCreatedAt(), dto.getQuestionId())));
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/meetings/{meeting-id}/questions", ID1)
+                .param("size", "1"));
+
+        // then
+        perform.andExpect(status().isOk())
+                .andDo(document("question_get/cursor",
+                        ApiDocumentUtils.getDocumentRequest(),
+                        ApiDocumentUtils.getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("cursor").optional().description("이전 응답의 nextCursor (첫 요청 시 생략)"),
+                                parameterWithName("size").description("조회할 질문 수")
+                        ),
+                        responseFields(
+                                fieldWithPath("content[].questionId").type(LONG).description("질문 아이디"),
+                                fieldWithPath("content[].content").type(STRING).description("질문 내용"),
+                                fieldWithPath("content[].questioner").type(OBJECT).description("질문자 정보"),
+                                fieldWithPath("content[].questioner.userId").type(LONG).description("질문자 아이디"),
+                                fieldWithPath("content[].questioner.email").type(STRING).description("질문자 이메일"),
+                                fieldWithPath("content[].questioner.nickname").type(STRING).description("질문자 닉네임"),
+                                fieldWithPath("content[].questioner.imageUrl").type(STRING).description("질문자 프로필 이미지"),
+                                fieldWithPath("content[].createdAt").type(STRING).description("질문 작성일"),
+                                fieldWithPath("content[].modifiedAt").type(STRING).description("질문 수정일"),
+                                fieldWithPath("content[].answers").type(OBJECT_ARRAY).description("답변 목록 (작성 순)"),
+                                fieldWithPath("nextCursor").type(STRING).description("다음 페이지 커서 (마지막 페이지면 없음)")
+                        ))
+                );
+    }
+}
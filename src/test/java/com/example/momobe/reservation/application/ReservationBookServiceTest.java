@@ -2,6 +2,8 @@ package com.example.momobe.reservation.application;
 
 import com.example.momobe.common.resolver.UserInfo;
 import com.example.momobe.meeting.application.MeetingCommonService;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
 import com.example.momobe.meeting.domain.Address;
 import com.example.momobe.meeting.domain.DateTime;
 import com.example.momobe.meeting.domain.DateTimeInfo;
@@ -61,6 +63,12 @@ class ReservationBookServiceTest {
     @Mock
     PaymentMapper paymentMapper;
 
+    @Mock
+    MeetingParticipantCountService meetingParticipantCountService;
+
+    @Mock
+    SlotOccupancyService slotOccupancyService;
+
     Meeting meeting;
     PostReservationDto reservationDto;
     UserInfo userInfo;
@@ -3,6 +3,8 @@ package com.example.momobe.reservation.application;
 import com.example.momobe.common.resolver.UserInfo;
 import com.example.momobe.maill.enums.MailType;
 import com.example.momobe.meeting.application.MeetingCommonService;
+import com.example.momobe.meeting.application.MeetingParticipantCountService;
+import com.example.momobe.meeting.application.SlotOccupancyService;
 import com.example.momobe.meeting.domain.Meeting;
 import com.example.momobe.reservation.dao.UserMailDao;
 import com.example.momobe.reservation.domain.*;
@@ -47,6 +49,12 @@ class ReservationConfirmServiceTest {
     @Mock
     MailEventPublishService mailEventPublishService;
 
+    @Mock
+    MeetingParticipantCountService meetingParticipantCountService;
+
+    @Mock
+    SlotOccupancyService slotOccupancyService;
+
     private Meeting meeting;
 
     private UserInfo userInfo;
@@ -125,6 +133,8 @@ class ReservationConfirmServiceTest {
 
         //then
         assertThat(reservation.getReservationState()).isEqualTo(DENY);
+        verify(meetingParticipantCountService, times(1)).decrease(meeting.getId());
+        verify(slotOccupancyService, times(1)).release(reservation);
     }
 
     @Test
@@ -140,6 +150,8 @@ class ReservationConfirmServiceTest {
 
         //then
         assertThat(reservation.getReservationState()).isEqualTo(ACCEPT);
+        verify(meetingParticipantCountService, never()).decrease(any());
+        verify(slotOccupancyService, never()).release(any(Reservation.class));
     }
 
     @Test